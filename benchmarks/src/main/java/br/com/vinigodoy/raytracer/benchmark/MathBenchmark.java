@@ -0,0 +1,94 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.benchmark;
+
+import br.com.vinigodoy.raytracer.math.BBox;
+import br.com.vinigodoy.raytracer.math.Matrix4;
+import br.com.vinigodoy.raytracer.math.Ray;
+import br.com.vinigodoy.raytracer.math.Solvers;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the math routines used in the intersection tests: bounding box tests, ray transformations and the
+ * quartic solver used by the torus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MathBenchmark {
+    private static final int COUNT = 1024;
+
+    private BBox box;
+    private Ray[] rays;
+    private Matrix4 transform;
+    private double[][] quartics;
+    private final double[] roots = new double[4];
+
+    @Setup
+    public void setup() {
+        box = new BBox(-1, 1, -2, 2, -0.5f, 0.5f);
+        rays = Rays.towards(box, COUNT, 42);
+        transform = Matrix4.newInvScale(2, 1, 1)
+                .multiply(Matrix4.newInvRotationX(0.5f))
+                .multiply(Matrix4.newInvTranslation(1, 2, 3));
+
+        //Quartics with 0, 2 or 4 real roots, like the ones produced by rays missing, crossing or piercing a torus
+        final var rnd = new SplittableRandom(42);
+        quartics = new double[COUNT][];
+        for (var i = 0; i < COUNT; i++) {
+            final var r = new double[4];
+            for (var j = 0; j < 4; j++)
+                r[j] = rnd.nextDouble(-10, 10);
+
+            //(x - r0)(x - r1)(x - r2)(x - r3), plus an offset that may remove some of the real roots
+            final var offset = rnd.nextDouble(0, 100);
+            quartics[i] = new double[]{
+                    r[0] * r[1] * r[2] * r[3] + offset,
+                    -(r[0] * r[1] * r[2] + r[0] * r[1] * r[3] + r[0] * r[2] * r[3] + r[1] * r[2] * r[3]),
+                    r[0] * r[1] + r[0] * r[2] + r[0] * r[3] + r[1] * r[2] + r[1] * r[3] + r[2] * r[3],
+                    -(r[0] + r[1] + r[2] + r[3]),
+                    1.0
+            };
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void bboxHit(Blackhole bh) {
+        for (var ray : rays) {
+            bh.consume(box.hit(ray));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void transformRay(Blackhole bh) {
+        for (var ray : rays) {
+            bh.consume(transform.transformRay(ray));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void solveQuartic(Blackhole bh) {
+        for (var c : quartics) {
+            bh.consume(Solvers.solveQuartic(c, roots));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.benchmark;
+
+import br.com.vinigodoy.raytracer.material.Matte;
+import br.com.vinigodoy.raytracer.math.Ray;
+import br.com.vinigodoy.raytracer.math.Vector3;
+import br.com.vinigodoy.raytracer.math.geometry.GeometricObject;
+import br.com.vinigodoy.raytracer.math.geometry.Instance;
+import br.com.vinigodoy.raytracer.math.geometry.part.ConvexPartSphere;
+import br.com.vinigodoy.raytracer.math.geometry.primitive.*;
+import br.com.vinigodoy.raytracer.utility.FloatRef;
+import br.com.vinigodoy.raytracer.utility.ShadeRec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hit and shadow hit throughput of each primitive, measured in rays per microsecond. About half of the rays miss.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveBenchmark {
+    private static final int RAYS = 1024;
+
+    public enum Primitive {
+        SPHERE {
+            @Override
+            GeometricObject create() {
+                return new Sphere(new Vector3(), 1, MATERIAL);
+            }
+        },
+        TORUS {
+            @Override
+            GeometricObject create() {
+                return new Torus(1.0f, 0.3f, MATERIAL);
+            }
+        },
+        BOX {
+            @Override
+            GeometricObject create() {
+                return new Box(1.0f, 2.0f, 3.0f, MATERIAL);
+            }
+        },
+        TRIANGLE {
+            @Override
+            GeometricObject create() {
+                return new Triangle(new Vector3(-1, 0, 0), new Vector3(1, 0, 0), new Vector3(0, 1, 1), MATERIAL);
+            }
+        },
+        DISK {
+            @Override
+            GeometricObject create() {
+                return new Disk(new Vector3(), new Vector3(0, 1, 1).normalize(), 1, MATERIAL);
+            }
+        },
+        ANNULUS {
+            @Override
+            GeometricObject create() {
+                return new Annulus(new Vector3(), new Vector3(0, 1, 1).normalize(), 0.5f, 1, MATERIAL);
+            }
+        },
+        RECTANGLE {
+            @Override
+            GeometricObject create() {
+                return new Rectangle(new Vector3(), new Vector3(2, 0, 0), new Vector3(0, 1, 1), MATERIAL);
+            }
+        },
+        OPEN_CYLINDER {
+            @Override
+            GeometricObject create() {
+                return new OpenCylinder(-1, 1, 1, MATERIAL);
+            }
+        },
+        CONVEX_PART_SPHERE {
+            @Override
+            GeometricObject create() {
+                return new ConvexPartSphere(new Vector3(), 1, 0, (float) Math.PI, 0, (float) Math.PI / 2, MATERIAL);
+            }
+        },
+        INSTANCE {
+            @Override
+            GeometricObject create() {
+                return new Instance(TORUS.create()).scale(2, 1, 1).rotateX(0.5f).translate(1, 2, 3);
+            }
+        };
+
+        private static final Matte MATERIAL = new Matte(0.25f, 0.75f, new Vector3(1, 1, 1));
+
+        abstract GeometricObject create();
+    }
+
+    @Param
+    public Primitive primitive;
+
+    private GeometricObject object;
+    private Ray[] rays;
+    private ShadeRec sr;
+    private final FloatRef t = new FloatRef();
+
+    @Setup
+    public void setup() {
+        object = primitive.create();
+        rays = Rays.towards(object.getBounds(), RAYS, 42);
+        sr = new ShadeRec(null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RAYS)
+    public void hit(Blackhole bh) {
+        for (var ray : rays) {
+            bh.consume(object.hit(ray, sr, t));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RAYS)
+    public void shadowHit(Blackhole bh) {
+        for (var ray : rays) {
+            bh.consume(object.shadow_hit(ray, t));
+        }
+    }
+}
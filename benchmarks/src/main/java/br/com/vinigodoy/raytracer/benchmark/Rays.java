@@ -0,0 +1,65 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.benchmark;
+
+import br.com.vinigodoy.raytracer.math.BBox;
+import br.com.vinigodoy.raytracer.math.Ray;
+import br.com.vinigodoy.raytracer.math.Vector3;
+
+import java.util.SplittableRandom;
+
+/**
+ * Creates reproducible sets of rays for the benchmarks.
+ */
+final class Rays {
+    private Rays() {
+    }
+
+    /**
+     * Creates rays starting outside the box and aiming at random points in a box twice as large as the given one. So,
+     * some rays hit the box and some miss it.
+     *
+     * @param box   The target box. Must be bounded.
+     * @param count Number of rays
+     * @param seed  Random seed
+     * @return The rays.
+     */
+    static Ray[] towards(BBox box, int count, long seed) {
+        final var rnd = new SplittableRandom(seed);
+        final var center = new Vector3(
+                (box.getX0() + box.getX1()) / 2,
+                (box.getY0() + box.getY1()) / 2,
+                (box.getZ0() + box.getZ1()) / 2);
+        final var hx = Math.max(box.getX1() - box.getX0(), 1e-3f);
+        final var hy = Math.max(box.getY1() - box.getY0(), 1e-3f);
+        final var hz = Math.max(box.getZ1() - box.getZ0(), 1e-3f);
+        final var distance = 3 * (float) Math.sqrt(hx * hx + hy * hy + hz * hz);
+
+        final var rays = new Ray[count];
+        for (var i = 0; i < count; i++) {
+            final var origin = randomDirection(rnd).multiply(distance).add(center);
+            final var target = new Vector3(
+                    center.getX() + (float) rnd.nextDouble(-hx, hx),
+                    center.getY() + (float) rnd.nextDouble(-hy, hy),
+                    center.getZ() + (float) rnd.nextDouble(-hz, hz));
+            rays[i] = new Ray(origin, Vector3.subtract(target, origin));
+        }
+        return rays;
+    }
+
+    private static Vector3 randomDirection(SplittableRandom rnd) {
+        final var z = rnd.nextDouble(-1, 1);
+        final var phi = rnd.nextDouble(2 * Math.PI);
+        final var r = Math.sqrt(1 - z * z);
+        return new Vector3((float) (r * Math.cos(phi)), (float) (r * Math.sin(phi)), (float) z);
+    }
+}
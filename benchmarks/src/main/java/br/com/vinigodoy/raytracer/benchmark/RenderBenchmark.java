@@ -0,0 +1,78 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.benchmark;
+
+import br.com.vinigodoy.raytracer.gui.WorldMaker;
+import br.com.vinigodoy.raytracer.math.Vector3;
+import br.com.vinigodoy.raytracer.scene.ViewPlane;
+import br.com.vinigodoy.raytracer.scene.World;
+import br.com.vinigodoy.raytracer.scene.WorldListener;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders each demo scene from start to end, at a fixed resolution and number of samples.
+ * <p>
+ * The camera is called directly in the benchmark thread, instead of through {@link World#render(ViewPlane)}, so the GC
+ * profiler accounts the allocations of the render. With more than one thread, allocations of the tile workers are not
+ * accounted.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RenderBenchmark {
+    private static final int WIDTH = 400;
+    private static final int HEIGHT = 225;
+
+    @Param
+    public WorldMaker scene;
+
+    @Param({"1", "16"})
+    public int samples;
+
+    @Param({"1"})
+    public int threads;
+
+    private World world;
+    private ViewPlane vp;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        world = scene.createScene(samples, WIDTH / 800.0f, new WorldListener() {
+            @Override
+            public void traceStarted(World world, int width, int height) {
+            }
+
+            @Override
+            public void pixelTraced(World world, int x, int y, Vector3 color) {
+            }
+
+            @Override
+            public void traceFinished(World world, long renderTime) {
+            }
+        });
+        world.setAccelerated(true).buildHierarchy();
+
+        vp = new ViewPlane(WIDTH, HEIGHT, samples);
+        vp.setNumThreads(threads);
+    }
+
+    @Benchmark
+    public World render() {
+        world.getCamera().render(world, vp);
+        return world;
+    }
+}
@@ -0,0 +1,61 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.benchmark;
+
+import br.com.vinigodoy.raytracer.math.Vector2;
+import br.com.vinigodoy.raytracer.math.Vector3;
+import br.com.vinigodoy.raytracer.sampler.Sampler;
+import br.com.vinigodoy.raytracer.sampler.Samples;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the sampler, in samples per microsecond.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SamplerBenchmark {
+    @Param({"MultiJittered", "NRooks", "Jittered", "Hammersley", "Random"})
+    public Samples sample;
+
+    @Param({"16", "144"})
+    public int numSamples;
+
+    private Sampler sampler;
+    private final Vector2 square = new Vector2();
+    private final Vector3 hemisphere = new Vector3();
+
+    @Setup
+    public void setup() {
+        sampler = new Sampler(sample, numSamples);
+    }
+
+    @Benchmark
+    public Vector2 nextSampleSquare() {
+        return sampler.nextSampleSquare(square);
+    }
+
+    @Benchmark
+    public Vector2 nextSampleDisk() {
+        return sampler.nextSampleDisk(square);
+    }
+
+    @Benchmark
+    public Vector3 nextSampleHemisphere() {
+        return sampler.nextSampleHemisphere(hemisphere);
+    }
+}
@@ -15,7 +15,12 @@ import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 public abstract class AbstractBRDF implements BRDF {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     @Override
     public Vector3 sample_f(ShadeRec sr, Vector3 wo, Vector3 wi) {
         return new Vector3();
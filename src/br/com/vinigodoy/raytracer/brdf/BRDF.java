@@ -14,11 +14,13 @@ import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serializable;
+
 /**
  * Interface for bidirectional reflectance distribution functions. These are functions that represent how the light is
  * reflected at surface.
  */
-public interface BRDF {
+public interface BRDF extends Serializable {
     /**
      * Compute this BRDF.
      *
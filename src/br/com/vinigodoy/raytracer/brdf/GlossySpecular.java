@@ -13,6 +13,8 @@ package br.com.vinigodoy.raytracer.brdf;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.multiply;
 import static br.com.vinigodoy.raytracer.math.Vector3.reflect;
 
@@ -20,6 +22,9 @@ import static br.com.vinigodoy.raytracer.math.Vector3.reflect;
  * Models a glossy specular light distribution
  */
 public class GlossySpecular extends AbstractBRDF {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private float ks;
     private Vector3 cs;
     private float exp;
@@ -15,12 +15,17 @@ package br.com.vinigodoy.raytracer.brdf;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.multiply;
 
 /**
  * Represents perfect diffuse reflection, where incident radiance is scattered equally in all directions.
  */
 public class Lambertian extends AbstractBRDF {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private static final float INVPI = (float) (1.0 / Math.PI);
 
     private float kd;
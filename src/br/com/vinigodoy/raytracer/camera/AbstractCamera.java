@@ -11,14 +11,26 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 
 package br.com.vinigodoy.raytracer.camera;
 
+import br.com.vinigodoy.raytracer.math.Vector2;
 import br.com.vinigodoy.raytracer.math.Vector3;
+import br.com.vinigodoy.raytracer.math.geometry.accel.Traversal;
+import br.com.vinigodoy.raytracer.sampler.Sampler;
+import br.com.vinigodoy.raytracer.scene.RenderHandle;
 import br.com.vinigodoy.raytracer.scene.ViewPlane;
 import br.com.vinigodoy.raytracer.scene.World;
+import br.com.vinigodoy.raytracer.stats.Counter;
+import br.com.vinigodoy.raytracer.stats.RenderStats;
+import br.com.vinigodoy.raytracer.stats.TileEvent;
 import br.com.vinigodoy.raytracer.utility.UVW;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.*;
 
 public abstract class AbstractCamera implements Camera {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     protected final Vector3 eye;
     protected final Vector3 look;
     protected final Vector3 up;
@@ -90,8 +102,128 @@ public abstract class AbstractCamera implements Camera {
         return new UVW(u, v, w);
     }
 
+    /**
+     * Renders the scene. With a single thread, pixels are traced one by one in the view plane draw order. Otherwise,
+     * the view plane is split into tiles rendered in parallel, in the draw order of the tiles. If progressive rendering
+     * is enabled, the whole view plane is traced once for each sample, and refined after each pass. Renders with a
+     * checkpoint are always traced in tiles or passes, which are saved and resumed.
+     * <p>
+     * The handle is checked before each tile, or before each pixel when tracing sequentially.
+     * <p>
+     * Each traced tile is recorded as a {@link TileEvent} by the flight recorder. Sequential renders have no tiles, so
+     * they record none.
+     *
+     * @param world  World to render
+     * @param vp     View plane
+     * @param handle Render handle
+     */
+    @Override
+    public void render(World world, ViewPlane vp, RenderHandle handle) {
+        final var uvw = computeUVW();
+
+        final var progressive = vp.getProgressiveRendering() != null;
+        if (progressive || vp.getNumThreads() > 1 || vp.getCheckpoint() != null) {
+            if (progressive) new ProgressiveRenderer(this, world, vp, uvw, handle).render();
+            else new TileRenderer(this, world, vp, uvw, handle).render();
+            return;
+        }
+
+        for (var pixel : vp.getPixels()) {
+            if (handle.isStopped()) return;
+            final var c = pixel.x();
+            final var r = pixel.y();
+            drawPixel(world, vp, c, r, tracePixel(world, vp, uvw, c, r));
+        }
+    }
+
+    /**
+     * Traces the samples of a single pixel. Usually, all samples of the view plane sampler are taken. With adaptive
+     * sampling, samples are taken in batches until the pixel error is small enough. This method is called
+     * concurrently by all render threads.
+     * <p>
+     * The samples of each pixel depend only on the view plane seed and on the pixel, so the pixel color is the same
+     * whatever thread traces it. The samples taken are added to the {@link Traversal} of the thread.
+     *
+     * @param world World to render
+     * @param vp    View plane
+     * @param uvw   Camera coordinate system
+     * @param col   Pixel column
+     * @param row   Pixel row
+     * @return The pixel color, before gamma correction.
+     */
+    protected Vector3 tracePixel(World world, ViewPlane vp, UVW uvw, int col, int row) {
+        final var numSamples = vp.getSampler().getNumSamples();
+        final var adaptive = vp.getAdaptiveSampling();
+        final var L = new Vector3();
+        final var sp = new Vector2();
+
+        try {
+            if (adaptive == null) {
+                Traversal.current().samples += numSamples;
+                RenderStats.count(Counter.SAMPLES, numSamples);
+                for (var i = 0; i < numSamples; i++)
+                    L.add(tracePixelSample(world, vp, uvw, col, row, i, sp));
+                return L.divide(numSamples).multiply(exposureTime);
+            }
+
+            //Running mean and variance of the sample luminances (Welford's algorithm)
+            var mean = 0.0;
+            var variance = 0.0;
+            var count = 0;
+            while (count < numSamples) {
+                final var color = tracePixelSample(world, vp, uvw, col, row, count, sp);
+                L.add(color);
+                count++;
+
+                final var luminance = 0.2126 * color.getX() + 0.7152 * color.getY() + 0.0722 * color.getZ();
+                final var y = Math.min(Math.max(luminance, 0), 1);
+                final var delta = y - mean;
+                mean += delta / count;
+                variance += delta * (y - mean);
+
+                if (count % adaptive.minSamples() == 0 && adaptive.isConverged(count, variance)) break;
+            }
+            Traversal.current().samples += count;
+            RenderStats.count(Counter.SAMPLES, count);
+            return L.divide(count).multiply(exposureTime);
+        } finally {
+            Sampler.endPixelSamples();
+        }
+    }
+
+    /**
+     * Traces the nth sample of a pixel. All samplers read the nth sample of the pixel, chosen by the view plane seed,
+     * until {@link Sampler#endPixelSamples()} is called.
+     */
+    final Vector3 tracePixelSample(World world, ViewPlane vp, UVW uvw, int col, int row, int n, Vector2 sp) {
+        Sampler.startPixelSample(vp.getSeed(), col + row * vp.getHRes(), n);
+        return traceSample(world, vp, uvw, col, row, vp.getSampler().nextSampleSquare(sp));
+    }
+
+    /**
+     * Traces a single sample of a pixel.
+     *
+     * @param world World to render
+     * @param vp    View plane
+     * @param uvw   Camera coordinate system
+     * @param col   Pixel column
+     * @param row   Pixel row
+     * @param sp    Sample position inside the pixel, in the unit square. Can be reused once it's read.
+     * @return The sample color.
+     */
+    protected abstract Vector3 traceSample(World world, ViewPlane vp, UVW uvw, int col, int row, Vector2 sp);
+
+    /**
+     * Applies the view plane gamma correction to the given color.
+     *
+     * @return The color, corrected.
+     */
+    protected Vector3 gammaCorrect(ViewPlane vp, Vector3 color) {
+        return vp.getGamma() != 1.0f ? color.pow(vp.invGamma()) : color;
+    }
+
     public void drawPixel(World world, ViewPlane vp, int col, int row, Vector3 color) {
-        if (vp.getGamma() != 1.0f) color.pow(vp.invGamma());
+        gammaCorrect(vp, color);
         final var invR = vp.getVRes() - row - 1;
         world.drawPixel(col, invR, color);
     }
@@ -12,17 +12,31 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 package br.com.vinigodoy.raytracer.camera;
 
 import br.com.vinigodoy.raytracer.math.Vector3;
+import br.com.vinigodoy.raytracer.scene.RenderHandle;
 import br.com.vinigodoy.raytracer.scene.ViewPlane;
 import br.com.vinigodoy.raytracer.scene.World;
 
-public interface Camera {
+import java.io.Serializable;
+
+public interface Camera extends Serializable {
     /**
-     * Renders the scene using this camera.
+     * Renders the scene using this camera, until it's done.
      *
      * @param world World to render
      * @param vp    View plane
      */
-    void render(World world, ViewPlane vp);
+    default void render(World world, ViewPlane vp) {
+        render(world, vp, new RenderHandle(0));
+    }
+
+    /**
+     * Renders the scene using this camera, until it's done or the handle is stopped.
+     *
+     * @param world  World to render
+     * @param vp     View plane
+     * @param handle Checked before each tile, to stop the render once it's cancelled or out of time.
+     */
+    void render(World world, ViewPlane vp, RenderHandle handle);
 
     /**
      * @return The camera location.
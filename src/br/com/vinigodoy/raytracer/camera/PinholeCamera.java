@@ -18,10 +18,15 @@ import br.com.vinigodoy.raytracer.scene.ViewPlane;
 import br.com.vinigodoy.raytracer.scene.World;
 import br.com.vinigodoy.raytracer.utility.UVW;
 
+import java.io.Serial;
+
 /**
  * Represents a pinhole perspective camera. The camera can focus all objects within the camera lens.
  */
 public class PinholeCamera extends AbstractCamera {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private float viewPlaneDistance;
     private float zoom;
 
@@ -48,27 +53,13 @@ public class PinholeCamera extends AbstractCamera {
     }
 
     @Override
-    public void render(World w, ViewPlane vp) {
-        final var uvw = computeUVW();
+    protected Vector3 traceSample(World w, ViewPlane vp, UVW uvw, int c, int r, Vector2 sp) {
         final var s = vp.getS() / zoom;
-
-        for (var pixel : vp.getPixels()) {
-            final var c = pixel.x();
-            final var r = pixel.y();
-            final var L = new Vector3();
-
-            for (var i = 0; i < vp.getSampler().getNumSamples(); i++) {
-                final var sp = vp.getSampler().nextSampleSquare();
-                final var pp = new Vector2(
-                        s * (c - 0.5f * vp.getHRes() + sp.getX()),
-                        s * (r - 0.5f * vp.getVRes() + sp.getY()));
-                final var ray = new Ray(eye, getDirection(pp, uvw));
-                L.add(w.getTracer().trace(w, ray, 0));
-            }
-
-            L.divide(vp.getSampler().getNumSamples()).multiply(exposureTime);
-            drawPixel(w, vp, c, r, L);
-        }
+        final var pp = new Vector2(
+                s * (c - 0.5f * vp.getHRes() + sp.getX()),
+                s * (r - 0.5f * vp.getVRes() + sp.getY()));
+        final var ray = new Ray(eye, getDirection(pp, uvw));
+        return w.getTracer().trace(w, ray, 0);
     }
 
     public Vector3 getDirection(Vector2 p, UVW uvw) {
@@ -0,0 +1,177 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.camera;
+
+import br.com.vinigodoy.raytracer.math.Vector2;
+import br.com.vinigodoy.raytracer.math.Vector3;
+import br.com.vinigodoy.raytracer.math.geometry.accel.Traversal;
+import br.com.vinigodoy.raytracer.sampler.Sampler;
+import br.com.vinigodoy.raytracer.scene.ProgressiveRendering;
+import br.com.vinigodoy.raytracer.scene.RenderCheckpoint;
+import br.com.vinigodoy.raytracer.scene.RenderHandle;
+import br.com.vinigodoy.raytracer.scene.ViewPlane;
+import br.com.vinigodoy.raytracer.scene.World;
+import br.com.vinigodoy.raytracer.stats.Counter;
+import br.com.vinigodoy.raytracer.stats.RenderStats;
+import br.com.vinigodoy.raytracer.stats.TileEvent;
+import br.com.vinigodoy.raytracer.utility.UVW;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Renders the view plane in passes of one sample per pixel, adding each pass to a float accumulation buffer.
+ * <p>
+ * Each pass is traced in tiles, in the draw order of the tiles, in parallel if the view plane has more than one thread.
+ * Since a tile is traced by a single thread, the buffer needs no locks. After each pass, the average of all passes is
+ * sent to the world listeners as a single frame. If the render handle is stopped in the middle of a pass, the remaining
+ * tiles are skipped and the pass is discarded.
+ * <p>
+ * With a checkpoint, the buffer is saved between passes, once the checkpoint interval has passed. A stopped render
+ * saves the tiles it finished in the interrupted pass, and a resumed render traces only the other ones.
+ */
+final class ProgressiveRenderer {
+    private final AbstractCamera camera;
+    private final World world;
+    private final ViewPlane vp;
+    private final UVW uvw;
+    private final ProgressiveRendering settings;
+    private final RenderHandle handle;
+    private final RenderCheckpoint checkpoint;
+
+    /**
+     * Sum of all samples of each pixel, as r, g, b triplets, in rows from top to bottom.
+     */
+    private final float[] sums;
+    private final float[] frame;
+
+    ProgressiveRenderer(AbstractCamera camera, World world, ViewPlane vp, UVW uvw, RenderHandle handle) {
+        this.camera = camera;
+        this.world = world;
+        this.vp = vp;
+        this.uvw = uvw;
+        this.handle = handle;
+        this.settings = vp.getProgressiveRendering();
+        this.checkpoint = vp.getCheckpoint();
+        this.sums = checkpoint == null ? new float[vp.getHRes() * vp.getVRes() * 3] :
+                TileRenderer.open(checkpoint, vp);
+        this.frame = new float[sums.length];
+    }
+
+    void render() {
+        final var start = System.currentTimeMillis();
+        final var pool = vp.getNumThreads() > 1 ? new ForkJoinPool(vp.getNumThreads()) : null;
+        try {
+            var samples = checkpoint == null ? 0 : checkpoint.getPasses();
+            if (samples > 0) drawFrame(samples);
+
+            while (samples == 0 || !settings.isFinished(samples, System.currentTimeMillis() - start)) {
+                tracePass(pool, samples);
+                //An interrupted pass is not shown, the listeners keep the frame of the last complete pass
+                if (handle.isStopped()) {
+                    if (checkpoint != null) checkpoint.save();
+                    return;
+                }
+                samples++;
+                if (checkpoint != null) {
+                    checkpoint.nextPass();
+                    checkpoint.saveIfDue();
+                }
+                drawFrame(samples);
+            }
+            if (checkpoint != null) checkpoint.delete();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write checkpoint " + checkpoint.getPath(), e);
+        } finally {
+            if (pool != null) pool.shutdownNow();
+        }
+    }
+
+    private void tracePass(ForkJoinPool pool, int n) {
+        if (pool == null) {
+            for (var tile : vp.getTiles()) traceTile(tile.x(), tile.y(), n);
+            return;
+        }
+
+        final var tasks = new ArrayList<ForkJoinTask<?>>();
+        for (var tile : vp.getTiles()) {
+            tasks.add(pool.submit(() -> traceTile(tile.x(), tile.y(), n)));
+        }
+
+        for (var task : tasks) {
+            task.join();
+        }
+    }
+
+    /**
+     * Traces the nth sample of each pixel of a tile. All samplers read the nth sample of the pixel, so each pixel takes
+     * the same samples it would take if it was fully traced at once.
+     */
+    private void traceTile(int tileX, int tileY, int n) {
+        final var tile = tileX + tileY * vp.getTilesX();
+        if (handle.isStopped() || checkpoint != null && checkpoint.isTileDone(tile)) return;
+
+        final var size = vp.getTileSize();
+        final var x0 = tileX * size;
+        final var y0 = tileY * size;
+        final var x1 = Math.min(x0 + size, vp.getHRes());
+        final var y1 = Math.min(y0 + size, vp.getVRes());
+
+        final var sp = new Vector2();
+
+        final var traversal = Traversal.current();
+        final var rays = traversal.rays;
+        final var shadowRays = traversal.shadowRays;
+        final var samples = (long) (x1 - x0) * (y1 - y0);
+
+        final var event = new TileEvent();
+        event.begin();
+        //Camera rows grow upwards, while image rows grow downwards
+        try {
+            for (var r = y0; r < y1; r++)
+                for (var c = x0; c < x1; c++) {
+                    final var color = camera.tracePixelSample(world, vp, uvw, c, r, n, sp);
+                    final var k = (c + (vp.getVRes() - 1 - r) * vp.getHRes()) * 3;
+                    sums[k] += color.getX();
+                    sums[k + 1] += color.getY();
+                    sums[k + 2] += color.getZ();
+                }
+            traversal.samples += samples;
+            RenderStats.count(Counter.SAMPLES, samples);
+        } finally {
+            Sampler.endPixelSamples();
+        }
+        event.commit(x0, vp.getVRes() - y1, x1 - x0, y1 - y0, n + 1,
+            samples, traversal.rays - rays, traversal.shadowRays - shadowRays);
+        if (checkpoint != null) checkpoint.setTileDone(tile);
+    }
+
+    /**
+     * Sends the average of all passes so far to the listeners, gamma corrected.
+     */
+    private void drawFrame(int samples) {
+        final var scale = camera.getExposureTime() / samples;
+        final var color = new Vector3();
+        for (var k = 0; k < sums.length; k += 3) {
+            camera.gammaCorrect(vp, color.set(sums[k] * scale, sums[k + 1] * scale, sums[k + 2] * scale));
+            frame[k] = color.getX();
+            frame[k + 1] = color.getY();
+            frame[k + 2] = color.getZ();
+        }
+
+        world.drawTile(0, 0, vp.getHRes(), vp.getVRes(), frame);
+        world.drawPass(samples);
+    }
+}
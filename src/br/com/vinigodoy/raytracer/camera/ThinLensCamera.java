@@ -20,11 +20,16 @@ import br.com.vinigodoy.raytracer.scene.ViewPlane;
 import br.com.vinigodoy.raytracer.scene.World;
 import br.com.vinigodoy.raytracer.utility.UVW;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector2.multiply;
 import static br.com.vinigodoy.raytracer.math.Vector3.add;
 import static br.com.vinigodoy.raytracer.math.Vector3.multiply;
 
 public class ThinLensCamera extends AbstractCamera {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private float zoom;
     private float viewPlaneDistance;
     private float focalDistance;
@@ -48,36 +53,20 @@ public class ThinLensCamera extends AbstractCamera {
     }
 
     @Override
-    public void render(World world, ViewPlane vp) {
-        final var uvw = computeUVW();
+    protected Vector3 traceSample(World world, ViewPlane vp, UVW uvw, int c, int r, Vector2 sp) {
         final var s = vp.getS() / zoom;
-
-        for (var pixel : vp.getPixels()) {
-            final var c = pixel.x();
-            final var r = pixel.y();
-
-            final var L = new Vector3();
-
-            for (var i = 0; i < vp.getSampler().getNumSamples(); i++) {
-                final var sp = vp.getSampler().nextSampleSquare();
-
-                final var pp = new Vector2(
-                    s * (c - 0.5f * vp.getHRes() + sp.getX()),
-                    s * (r - 0.5f * vp.getVRes() + sp.getY())
-                );
-
-                final var dp = sampler.nextSampleDisk();
-                final var lp = multiply(dp, lensRadius);
-                final var o = add(eye, multiply(uvw.u(), lp.getX()))
-                        .add(multiply(uvw.v(), lp.getY()));
-
-                final var ray = new Ray(o, getDirection(pp, lp, uvw));
-                L.add(world.getTracer().trace(world, ray, 0));
-            }
-
-            L.divide(vp.getSampler().getNumSamples()).multiply(exposureTime);
-            drawPixel(world, vp, c, r, L);
-        }
+        final var pp = new Vector2(
+            s * (c - 0.5f * vp.getHRes() + sp.getX()),
+            s * (r - 0.5f * vp.getVRes() + sp.getY())
+        );
+
+        //The pixel sample was already read, so its vector is reused for the lens sample
+        final var lp = sampler.nextSampleDisk(sp).multiply(lensRadius);
+        final var o = add(eye, multiply(uvw.u(), lp.getX()))
+                .add(multiply(uvw.v(), lp.getY()));
+
+        final var ray = new Ray(o, getDirection(pp, lp, uvw));
+        return world.getTracer().trace(world, ray, 0);
     }
 
     public float getZoom() {
@@ -0,0 +1,186 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.camera;
+
+import br.com.vinigodoy.raytracer.math.geometry.accel.Traversal;
+import br.com.vinigodoy.raytracer.scene.RenderCheckpoint;
+import br.com.vinigodoy.raytracer.scene.RenderHandle;
+import br.com.vinigodoy.raytracer.scene.ViewPlane;
+import br.com.vinigodoy.raytracer.scene.World;
+import br.com.vinigodoy.raytracer.stats.TileEvent;
+import br.com.vinigodoy.raytracer.utility.UVW;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renders the view plane in tiles, with the number of threads of the view plane. Tiles are kept in a shared queue: each
+ * thread takes the next tile from a shared counter as soon as it finishes the previous one, so threads stay busy even
+ * if some tiles take much longer than others.
+ * <p>
+ * Tiles are taken in the view plane draw order, so the image is still displayed progressively. Each tile is fully
+ * traced before it's sent to the world listeners as a single buffer. Listeners are never called by two threads at
+ * once. Tiles that start after the render handle is stopped are skipped.
+ * <p>
+ * With a checkpoint, the colors of the finished tiles are also kept in the checkpoint buffer, which is saved once the
+ * checkpoint interval has passed and when the render is stopped. A resumed render sends the saved tiles to the
+ * listeners first, and traces only the other ones.
+ */
+final class TileRenderer {
+    private final AbstractCamera camera;
+    private final World world;
+    private final ViewPlane vp;
+    private final UVW uvw;
+    private final RenderHandle handle;
+    private final RenderCheckpoint checkpoint;
+
+    private final Object drawLock = new Object();
+    private float[] colors;
+
+    TileRenderer(AbstractCamera camera, World world, ViewPlane vp, UVW uvw, RenderHandle handle) {
+        this.camera = camera;
+        this.world = world;
+        this.vp = vp;
+        this.uvw = uvw;
+        this.handle = handle;
+        this.checkpoint = vp.getCheckpoint();
+    }
+
+    /**
+     * Opens the checkpoint of the view plane.
+     *
+     * @return The checkpoint buffer.
+     */
+    static float[] open(RenderCheckpoint checkpoint, ViewPlane vp) {
+        try {
+            return checkpoint.open(vp);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read checkpoint " + checkpoint.getPath(), e);
+        }
+    }
+
+    void render() {
+        if (checkpoint != null) {
+            colors = open(checkpoint, vp);
+            drawCheckpoint();
+        }
+
+        final var tiles = vp.getTiles();
+        final var next = new AtomicInteger();
+        final var pool = new ForkJoinPool(vp.getNumThreads());
+        try {
+            //One task per thread, taking the tiles in order, so the number of tasks doesn't grow with the image
+            final var tasks = new ArrayList<ForkJoinTask<?>>();
+            for (var i = 0; i < vp.getNumThreads(); i++) {
+                tasks.add(pool.submit(() -> {
+                    for (var t = next.getAndIncrement(); t < tiles.getCount(); t = next.getAndIncrement()) {
+                        final var tile = tiles.getPixel(t);
+                        renderTile(tile.x(), tile.y());
+                    }
+                }));
+            }
+
+            for (var task : tasks) {
+                task.join();
+            }
+
+            if (checkpoint == null) return;
+            if (handle.isStopped()) checkpoint.save();
+            else checkpoint.delete();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write checkpoint " + checkpoint.getPath(), e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Sends the tiles finished in the checkpoint to the listeners.
+     */
+    private void drawCheckpoint() {
+        final var size = vp.getTileSize();
+        final var rgb = new float[size * size * 3];
+        for (var tileY = 0; tileY < vp.getTilesY(); tileY++)
+            for (var tileX = 0; tileX < vp.getTilesX(); tileX++) {
+                if (!checkpoint.isTileDone(tileX + tileY * vp.getTilesX())) continue;
+
+                final var x = tileX * size;
+                final var width = Math.min(size, vp.getHRes() - x);
+                final var y1 = Math.min((tileY + 1) * size, vp.getVRes());
+                final var height = y1 - tileY * size;
+                final var y = vp.getVRes() - y1;
+                for (var j = 0; j < height; j++) {
+                    System.arraycopy(colors, ((y + j) * vp.getHRes() + x) * 3, rgb, j * width * 3, width * 3);
+                }
+                world.drawTile(x, y, width, height, rgb);
+            }
+    }
+
+    private void renderTile(int tileX, int tileY) {
+        final var tile = tileX + tileY * vp.getTilesX();
+        if (handle.isStopped() || checkpoint != null && checkpoint.isTileDone(tile)) return;
+
+        final var size = vp.getTileSize();
+        final var x0 = tileX * size;
+        final var y0 = tileY * size;
+        final var x1 = Math.min(x0 + size, vp.getHRes());
+        final var y1 = Math.min(y0 + size, vp.getVRes());
+
+        final var width = x1 - x0;
+        final var height = y1 - y0;
+        final var rgb = new float[width * height * 3];
+
+        final var traversal = Traversal.current();
+        final var samples = traversal.samples;
+        final var rays = traversal.rays;
+        final var shadowRays = traversal.shadowRays;
+
+        final var event = new TileEvent();
+        event.begin();
+        //Camera rows grow upwards, while image rows grow downwards
+        for (var r = y0; r < y1; r++)
+            for (var c = x0; c < x1; c++) {
+                final var color = camera.gammaCorrect(vp, camera.tracePixel(world, vp, uvw, c, r));
+                final var k = ((c - x0) + (y1 - 1 - r) * width) * 3;
+                rgb[k] = color.getX();
+                rgb[k + 1] = color.getY();
+                rgb[k + 2] = color.getZ();
+            }
+        event.commit(x0, vp.getVRes() - y1, width, height, 0,
+            traversal.samples - samples, traversal.rays - rays, traversal.shadowRays - shadowRays);
+
+        synchronized (drawLock) {
+            world.drawTile(x0, vp.getVRes() - y1, width, height, rgb);
+            if (checkpoint != null) saveTile(tile, x0, vp.getVRes() - y1, width, height, rgb);
+        }
+    }
+
+    /**
+     * Copies a finished tile to the checkpoint buffer, and saves the checkpoint if it's time to. Called with the draw
+     * lock held, so no tile is copied while the buffer is saved.
+     */
+    private void saveTile(int tile, int x, int y, int width, int height, float[] rgb) {
+        for (var j = 0; j < height; j++) {
+            System.arraycopy(rgb, j * width * 3, colors, ((y + j) * vp.getHRes() + x) * 3, width * 3);
+        }
+        checkpoint.setTileDone(tile);
+        try {
+            checkpoint.saveIfDue();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write checkpoint " + checkpoint.getPath(), e);
+        }
+    }
+}
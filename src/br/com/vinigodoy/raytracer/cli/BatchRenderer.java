@@ -0,0 +1,497 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.cli;
+
+import br.com.vinigodoy.raytracer.gui.WorldMaker;
+import br.com.vinigodoy.raytracer.image.ExrWriter;
+import br.com.vinigodoy.raytracer.image.FloatFrameBuffer;
+import br.com.vinigodoy.raytracer.image.FrameBuffer;
+import br.com.vinigodoy.raytracer.image.MappedFrameBuffer;
+import br.com.vinigodoy.raytracer.image.PfmWriter;
+import br.com.vinigodoy.raytracer.image.PngWriter;
+import br.com.vinigodoy.raytracer.image.PpmWriter;
+import br.com.vinigodoy.raytracer.math.Vector3;
+import br.com.vinigodoy.raytracer.sampler.Sampler;
+import br.com.vinigodoy.raytracer.sampler.Samples;
+import br.com.vinigodoy.raytracer.sampler.Sequences;
+import br.com.vinigodoy.raytracer.scene.AdaptiveSampling;
+import br.com.vinigodoy.raytracer.scene.ProgressiveRendering;
+import br.com.vinigodoy.raytracer.scene.RenderCheckpoint;
+import br.com.vinigodoy.raytracer.scene.RenderHandle;
+import br.com.vinigodoy.raytracer.scene.SceneCache;
+import br.com.vinigodoy.raytracer.scene.ViewPlane;
+import br.com.vinigodoy.raytracer.scene.World;
+import br.com.vinigodoy.raytracer.scene.WorldListener;
+import br.com.vinigodoy.raytracer.scene.order.DrawOrders;
+import br.com.vinigodoy.raytracer.stats.RenderStats;
+import br.com.vinigodoy.raytracer.utility.Rnd;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headless command line renderer. Renders one of the demo scenes into a float frame buffer and writes it as a PNG,
+ * PPM, PFM or OpenEXR file, without using AWT. When done, prints the render statistics as key=value lines, so they
+ * can be easily parsed by scripts.
+ */
+public final class BatchRenderer {
+    private static final String USAGE = """
+            Usage: java -cp raytracer.jar br.com.vinigodoy.raytracer.cli.BatchRenderer [options]
+              --scene <name>      Scene to render: %s (default: BALLS)
+              --width <pixels>    Image width (default: 1920)
+              --height <pixels>   Image height (default: 1080)
+              --samples <n>       Samples per pixel (default: 16)
+              --sampler <name>    Pixel sampler: %s
+                                  (default: MultiJittered, or NRooks if --samples is not a square)
+              --adaptive <error>  Adaptive sampling: stops sampling pixels once the standard error of their
+                                  luminance is below this value. --samples becomes the maximum (default: off)
+              --min-samples <n>   Samples taken by each pixel before checking its error (default: 16)
+              --progressive <ms>  Progressive rendering: traces passes of one sample per pixel until --samples
+                                  passes are done or this time budget runs out. Use 0 for no budget (default: off)
+              --order <name>      Draw order: %s (default: NORMAL)
+              --seed <n>          Random seed. Renders with the same seed and options are identical (default: random)
+              --threads <n>       Render threads (default: number of processors)
+              --output <file>     Output image: .png or .ppm, or .pfm or .exr to keep the unclamped float colors
+                                  (default: <scene>.png)
+              --compression <c>   OpenEXR compression: NONE or RLE (default: NONE)
+              --buffer <file>     Keeps the frame buffer in this memory mapped scratch file instead of the heap,
+                                  for images bigger than the heap. Deleted once the image is written
+              --checkpoint <file> Saves the render state to this file, and resumes from it if it matches the scene
+                                  and options. The seed is read from the file if --seed is not given
+              --checkpoint-interval <ms>
+                                  Time between checkpoint saves (default: 60000)
+              --stats <ms>        Counts rays, samples, box tests and hit calls of each object type, and prints them
+                                  at the end. A positive interval also prints live counters to stderr (default: off)
+              --cache <file>      Scene cache. Loaded if it matches the scene and samples, written otherwise
+              --help              Shows this message
+            """;
+
+    private WorldMaker scene = WorldMaker.BALLS;
+    private int width = 1920;
+    private int height = 1080;
+    private int samples = 16;
+    private Enum<?> sampler;
+    private float maxError;
+    private int minSamples = 16;
+    private long timeBudget = -1;
+    private long statsInterval = -1;
+    private DrawOrders order = DrawOrders.NORMAL;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private Long seed;
+    private Path output;
+    private ExrWriter.Compression compression = ExrWriter.Compression.NONE;
+    private Path cache;
+    private Path buffer;
+    private Path checkpoint;
+    private long checkpointInterval = 60000;
+
+    private BatchRenderer() {
+    }
+
+    public static void main(String[] args) {
+        Locale.setDefault(Locale.US);
+        final var renderer = new BatchRenderer();
+        try {
+            if (!renderer.parse(args)) {
+                printUsage(System.out);
+                return;
+            }
+            renderer.render(System.out);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            printUsage(System.err);
+            System.exit(2);
+        } catch (UncheckedIOException e) {
+            System.err.println(e.getMessage() + ": " + e.getCause().getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void printUsage(PrintStream out) {
+        out.printf(USAGE, names(WorldMaker.values()), samplerNames(), names(DrawOrders.values()));
+    }
+
+    private static String names(Enum<?>[] values) {
+        final var names = new StringBuilder();
+        for (var value : values) {
+            if (!names.isEmpty()) names.append(", ");
+            names.append(value.name());
+        }
+        return names.toString();
+    }
+
+    private static String samplerNames() {
+        return names(Samples.values()) + ", " + names(Sequences.values());
+    }
+
+    /**
+     * Reads the command line options.
+     *
+     * @return False if the help was requested.
+     * @throws IllegalArgumentException If any option is invalid.
+     */
+    private boolean parse(String[] args) {
+        for (var i = 0; i < args.length; i++) {
+            final var option = args[i];
+            if (option.equals("--help")) return false;
+            if (i + 1 == args.length)
+                throw new IllegalArgumentException("Missing value for option " + option);
+
+            final var value = args[++i];
+            switch (option) {
+                case "--scene" -> scene = parseEnum(WorldMaker.class, option, value);
+                case "--width" -> width = parsePositive(option, value);
+                case "--height" -> height = parsePositive(option, value);
+                case "--samples" -> samples = parsePositive(option, value);
+                case "--sampler" -> sampler = parseSampler(option, value);
+                case "--adaptive" -> maxError = parsePositiveFloat(option, value);
+                case "--min-samples" -> minSamples = parsePositive(option, value);
+                case "--progressive" -> timeBudget = parseNonNegativeLong(option, value);
+                case "--order" -> order = parseEnum(DrawOrders.class, option, value);
+                case "--seed" -> seed = parseLong(option, value);
+                case "--threads" -> threads = parsePositive(option, value);
+                case "--output" -> output = Path.of(value);
+                case "--compression" -> compression = parseEnum(ExrWriter.Compression.class, option, value);
+                case "--stats" -> statsInterval = parseNonNegativeLong(option, value);
+                case "--cache" -> cache = Path.of(value);
+                case "--buffer" -> buffer = Path.of(value);
+                case "--checkpoint" -> checkpoint = Path.of(value);
+                case "--checkpoint-interval" -> checkpointInterval = parseNonNegativeLong(option, value);
+                default -> throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+
+        if (output == null) output = Path.of(scene.name().toLowerCase() + ".png");
+        final var file = output.getFileName().toString().toLowerCase();
+        if (!file.endsWith(".png") && !file.endsWith(".ppm") && !file.endsWith(".pfm") && !file.endsWith(".exr"))
+            throw new IllegalArgumentException("Output must be a .png, .ppm, .pfm or .exr file: " + output);
+        return true;
+    }
+
+    private static int parsePositive(String option, String value) {
+        try {
+            final var n = Integer.parseInt(value);
+            if (n > 0) return n;
+        } catch (NumberFormatException e) {
+            //Handled below
+        }
+        throw new IllegalArgumentException("Invalid value for " + option + ": " + value);
+    }
+
+    private static long parseLong(String option, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + option + ": " + value);
+        }
+    }
+
+    private static long parseNonNegativeLong(String option, String value) {
+        try {
+            final var n = Long.parseLong(value);
+            if (n >= 0) return n;
+        } catch (NumberFormatException e) {
+            //Handled below
+        }
+        throw new IllegalArgumentException("Invalid value for " + option + ": " + value);
+    }
+
+    private static float parsePositiveFloat(String option, String value) {
+        try {
+            final var n = Float.parseFloat(value);
+            if (n > 0 && Float.isFinite(n)) return n;
+        } catch (NumberFormatException e) {
+            //Handled below
+        }
+        throw new IllegalArgumentException("Invalid value for " + option + ": " + value);
+    }
+
+    private static Enum<?> parseSampler(String option, String value) {
+        for (var sample : Samples.values()) {
+            if (sample.name().equalsIgnoreCase(value)) return sample;
+        }
+        for (var sequence : Sequences.values()) {
+            if (sequence.name().equalsIgnoreCase(value)) return sequence;
+        }
+        throw new IllegalArgumentException("Invalid value for " + option + ": " + value);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String option, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for " + option + ": " + value);
+        }
+    }
+
+    /**
+     * Renders the image. Each step that reads or writes a file reports its failures as an UncheckedIOException naming
+     * the file.
+     */
+    private void render(PrintStream out) {
+        final var start = System.nanoTime();
+        if (seed == null) {
+            try {
+                seed = checkpoint == null ? start : RenderCheckpoint.readSeed(checkpoint, start);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read checkpoint " + checkpoint, e);
+            }
+        }
+        final FrameBuffer image;
+        try {
+            image = buffer == null ? new FloatFrameBuffer(width, height) :
+                    new MappedFrameBuffer(buffer, width, height, ViewPlane.DEFAULT_TILE_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to map frame buffer " + buffer, e);
+        }
+        try {
+            render(out, start, image);
+        } finally {
+            if (buffer != null) deleteBuffer();
+        }
+    }
+
+    private void deleteBuffer() {
+        try {
+            Files.deleteIfExists(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to delete frame buffer " + buffer, e);
+        }
+    }
+
+    private void render(PrintStream out, long start, FrameBuffer image) {
+        final var passes = new AtomicInteger();
+
+        final var listener = new WorldListener() {
+            @Override
+            public void traceStarted(World world, int width, int height) {
+            }
+
+            @Override
+            public void pixelTraced(World world, int x, int y, Vector3 color) {
+                image.setPixel(x, y, color.getX(), color.getY(), color.getZ());
+            }
+
+            @Override
+            public void tileTraced(World world, int x, int y, int tileWidth, int tileHeight, float[] tile) {
+                image.setTile(x, y, tileWidth, tileHeight, tile);
+            }
+
+            @Override
+            public void passTraced(World world, int samples) {
+                passes.set(samples);
+            }
+
+            @Override
+            public void traceFinished(World world, long renderTime) {
+            }
+        };
+        //The view plane takes its random numbers first, so they're the same whether the scene is built or cached
+        Rnd.setSeed(seed);
+        final var vp = new ViewPlane(width, height, samples);
+        vp.setDrawOrder(order);
+        vp.setNumThreads(threads);
+        vp.setSeed(seed);
+        if (sampler instanceof Samples sample) vp.setSampler(new Sampler(sample, samples));
+        else if (sampler instanceof Sequences sequence) vp.setSampler(new Sampler(sequence, samples));
+        if (maxError > 0)
+            vp.setAdaptiveSampling(new AdaptiveSampling(Math.max(2, Math.min(minSamples, samples)), maxError));
+        if (timeBudget >= 0)
+            vp.setProgressiveRendering(new ProgressiveRendering(samples, timeBudget));
+
+        final var zoom = width / 800.0f;
+        final var key = scene.name() + " samples=" + samples + " zoom=" + zoom;
+        World world;
+        try {
+            world = cache == null ? null : SceneCache.load(cache, key);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read cache " + cache, e);
+        }
+        final var cached = world != null;
+        if (cached) world.addListener(listener);
+        else world = scene.createScene(samples, zoom, listener);
+        final var sceneTime = System.nanoTime();
+
+        world.setAccelerated(true);
+        final var hierarchy = cached ? world.getHierarchy() : world.buildHierarchy();
+        final var accelTime = System.nanoTime();
+
+        if (!cached && cache != null) {
+            try {
+                SceneCache.save(cache, key, world);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to write cache " + cache, e);
+            }
+        }
+        final var cacheTime = System.nanoTime();
+
+        if (checkpoint != null) {
+            //The view plane sampler is hashed too, since its sample sets depend on the seed
+            final var sceneHash = SceneCache.hash(world, vp.getSampler());
+            vp.setCheckpoint(new RenderCheckpoint(checkpoint, sceneHash, checkpointInterval));
+        }
+        final var hashTime = System.nanoTime();
+
+        final var handle = new RenderHandle(0);
+        RenderStats.reset();
+        RenderStats.setEnabled(statsInterval >= 0);
+        final var monitor = statsInterval > 0 ? startMonitor(statsInterval) : null;
+        try {
+            if (!render(world, vp, handle)) return;
+        } finally {
+            if (monitor != null) monitor.interrupt();
+        }
+        final var renderTime = System.nanoTime();
+
+        final var file = output.getFileName().toString().toLowerCase();
+        try {
+            if (file.endsWith(".ppm")) PpmWriter.write(output, image);
+            else if (file.endsWith(".pfm")) PfmWriter.write(output, image);
+            else if (file.endsWith(".exr")) ExrWriter.write(output, image, compression);
+            else PngWriter.write(output, image);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write " + output, e);
+        }
+        final var writeTime = System.nanoTime();
+
+        final var rays = world.getRayCount();
+        final var shadowRays = world.getShadowRayCount();
+        final var renderSeconds = (renderTime - hashTime) / 1e9;
+
+        out.println("scene=" + scene.name());
+        out.println("width=" + width);
+        out.println("height=" + height);
+        out.println("samples=" + samples);
+        out.println("sampler=" + (sampler != null ? sampler.name() : vp.getSampler().getSample()));
+        if (vp.getAdaptiveSampling() != null) {
+            out.println("adaptive_min_samples=" + vp.getAdaptiveSampling().minSamples());
+            out.println("adaptive_max_error=" + vp.getAdaptiveSampling().maxError());
+        }
+        if (vp.getProgressiveRendering() != null) {
+            out.println("progressive_budget_ms=" + timeBudget);
+            out.println("progressive_passes=" + passes.get());
+        }
+        out.println("order=" + order.name());
+        out.println("threads=" + threads);
+        out.println("seed=" + seed);
+        out.println("output=" + output.toAbsolutePath());
+        if (output.getFileName().toString().toLowerCase().endsWith(".exr"))
+            out.println("compression=" + compression.name());
+        if (buffer != null) out.println("buffer=" + buffer.toAbsolutePath());
+        if (cache != null) {
+            out.println("cache=" + cache.toAbsolutePath());
+            out.println("cache_hit=" + cached);
+            out.println("cache_write_ms=" + millis(accelTime, cacheTime));
+        }
+        if (checkpoint != null) {
+            out.println("checkpoint=" + checkpoint.toAbsolutePath());
+            out.println("checkpoint_resumed=" + vp.getCheckpoint().isResumed());
+            out.println("checkpoint_saves=" + vp.getCheckpoint().getSaveCount());
+            out.println("checkpoint_hash_ms=" + millis(cacheTime, hashTime));
+        }
+        out.println("scene_ms=" + millis(start, sceneTime));
+        out.println("accel_ms=" + millis(sceneTime, accelTime));
+        out.println("render_ms=" + millis(hashTime, renderTime));
+        out.println("write_ms=" + millis(renderTime, writeTime));
+        out.println("total_ms=" + millis(start, writeTime));
+        out.println("accel_nodes=" + hierarchy.getStats().nodes());
+        out.println("rays=" + rays);
+        out.println("shadow_rays=" + shadowRays);
+        out.printf("rays_per_second=%.0f%n", (rays + shadowRays) / renderSeconds);
+        if (RenderStats.isEnabled()) RenderStats.snapshot().print(out);
+        printMemory(out);
+    }
+
+    /**
+     * Renders the world. With a checkpoint, a shutdown hook stops the render when the process is terminated, so the
+     * checkpoint is saved before the JVM exits.
+     *
+     * @return False if the render was stopped by the shutdown hook.
+     */
+    private static boolean render(World world, ViewPlane vp, RenderHandle handle) {
+        final var rendered = new CountDownLatch(1);
+        final var hook = new Thread(() -> {
+            handle.cancel();
+            try {
+                rendered.await();
+                System.err.println("Render stopped. Checkpoint saved to " + vp.getCheckpoint().getPath());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        if (vp.getCheckpoint() != null) Runtime.getRuntime().addShutdownHook(hook);
+
+        try {
+            world.getCamera().render(world, vp, handle);
+        } finally {
+            rendered.countDown();
+        }
+        if (handle.isCancelled()) return false;
+
+        try {
+            if (vp.getCheckpoint() != null) Runtime.getRuntime().removeShutdownHook(hook);
+        } catch (IllegalStateException e) {
+            //Already shutting down
+        }
+        return true;
+    }
+
+    /**
+     * Starts a daemon thread that prints the render statistics to stderr, in a single line, at each interval.
+     */
+    private static Thread startMonitor(long interval) {
+        final var monitor = new Thread(() -> {
+            final var start = System.nanoTime();
+            try {
+                while (true) {
+                    Thread.sleep(interval);
+                    final var stats = RenderStats.snapshot();
+                    final var elapsed = (System.nanoTime() - start) / 1e9;
+                    final var line = new StringBuilder(String.format("stats %.1fs:", elapsed));
+                    for (var counter : stats.counters().entrySet())
+                        line.append(' ').append(counter.getKey().key()).append('=').append(counter.getValue());
+                    System.err.println(line);
+                }
+            } catch (InterruptedException e) {
+                //Render finished
+            }
+        }, "Stats monitor");
+        monitor.setDaemon(true);
+        monitor.start();
+        return monitor;
+    }
+
+    private static String millis(long start, long end) {
+        return String.format("%.3f", (end - start) / 1e6);
+    }
+
+    private static void printMemory(PrintStream out) {
+        final var runtime = Runtime.getRuntime();
+        var peak = 0L;
+        for (var pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) peak += pool.getPeakUsage().getUsed();
+        }
+
+        out.println("heap_used_bytes=" + (runtime.totalMemory() - runtime.freeMemory()));
+        out.println("heap_committed_bytes=" + runtime.totalMemory());
+        out.println("heap_max_bytes=" + runtime.maxMemory());
+        out.println("heap_peak_bytes=" + peak);
+    }
+}
@@ -0,0 +1,79 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.cli;
+
+import br.com.vinigodoy.raytracer.math.geometry.mesh.MeshLoader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Loads OBJ and PLY meshes and prints the loading statistics as key=value lines, so big assets can be checked before
+ * they're sent to the render nodes.
+ */
+public final class MeshInfo {
+    private static final String USAGE = """
+            Usage: java -cp raytracer.jar br.com.vinigodoy.raytracer.cli.MeshInfo [--flat] <file>...
+              --flat    Loads the meshes without vertex normals
+              --help    Shows this message
+            """;
+
+    private MeshInfo() {
+    }
+
+    public static void main(String[] args) {
+        Locale.setDefault(Locale.US);
+        final var loader = new MeshLoader();
+        var files = 0;
+        for (var arg : args) {
+            if (arg.equals("--help")) {
+                System.out.print(USAGE);
+                return;
+            }
+            if (arg.equals("--flat")) loader.setSmooth(false);
+            else files++;
+        }
+        if (files == 0) {
+            System.err.print(USAGE);
+            System.exit(2);
+        }
+
+        var failed = false;
+        for (var arg : args) {
+            if (arg.startsWith("--")) continue;
+            try {
+                final var mesh = loader.load(Path.of(arg), null);
+                final var stats = loader.getStats();
+                final var accelStart = System.nanoTime();
+                final var accel = mesh.getStats();
+                final var accelTime = System.nanoTime() - accelStart;
+
+                System.out.println("file=" + Path.of(arg).toAbsolutePath());
+                System.out.println("bytes=" + stats.bytes());
+                System.out.println("vertices=" + stats.vertices());
+                System.out.println("triangles=" + stats.triangles());
+                System.out.println("smooth=" + mesh.isSmooth());
+                System.out.printf("load_ms=%.3f%n", stats.timeNanos() / 1e6);
+                System.out.printf("load_mb_per_second=%.1f%n", stats.megabytesPerSecond());
+                System.out.println("load_heap_peak_bytes=" + stats.peakHeapBytes());
+                System.out.printf("accel_ms=%.3f%n", accelTime / 1e6);
+                System.out.println("accel_nodes=" + accel.nodes());
+                System.out.println("accel_depth=" + accel.maxDepth());
+            } catch (IOException e) {
+                System.err.println("Unable to load " + arg + ": " + e.getMessage());
+                failed = true;
+            }
+        }
+        if (failed) System.exit(1);
+    }
+}
@@ -12,6 +12,8 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 package br.com.vinigodoy.raytracer.gui;
 
 import br.com.vinigodoy.raytracer.math.Vector3;
+import br.com.vinigodoy.raytracer.scene.ProgressiveRendering;
+import br.com.vinigodoy.raytracer.scene.RenderHandle;
 import br.com.vinigodoy.raytracer.scene.ViewPlane;
 import br.com.vinigodoy.raytracer.scene.World;
 import br.com.vinigodoy.raytracer.scene.WorldListener;
@@ -25,9 +27,13 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.Serial;
 import java.util.Locale;
 
 public class SampleFrame extends JFrame {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private static final String VERSION = "1.9b";
     private static final String RENDER_INFO = "Java Raytracer v" + VERSION +
             " - Scene: %s - Render time: %s";
@@ -42,18 +48,22 @@ public class SampleFrame extends JFrame {
     private final JComboBox<WorldMaker> cmbScene = new JComboBox<>();
     private final JComboBox<DrawOrder> cmbDrawOrder = new JComboBox<>();
     private final JComboBox<Quality> cmbQuality = new JComboBox<>();
+    private final JCheckBox chkProgressive = new JCheckBox("Progressive");
 
     private final JFileChooser chooser = new JFileChooser();
     private final JProgressBar pbProgress = new JProgressBar();
 
-    private final WorldWaiter waiter;
+    /**
+     * Listener of the current render. Each render gets its own, so a stopped render may still finish its last tiles
+     * without drawing over the next one.
+     */
+    private volatile WorldWaiter waiter;
+    private RenderHandle render;
 
     public SampleFrame() {
         super("Java Ray Tracer v" + VERSION + " demo. Click in the button to draw.");
         Locale.setDefault(Locale.US);
 
-        waiter = new WorldWaiter();
-
         setResizable(false);
         setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
         output.setPreferredSize(new Dimension(800, 450));
@@ -69,6 +79,7 @@ public class SampleFrame extends JFrame {
             cmbScene.addItem(wm);
         }
         cmbScene.setSelectedItem(WorldMaker.OBJECTS);
+        cmbScene.addActionListener(e -> restartRender());
         pnlButtons.add(cmbScene);
 
         //Draw order
@@ -77,6 +88,7 @@ public class SampleFrame extends JFrame {
             cmbDrawOrder.addItem(drawOrder);
         }
         cmbDrawOrder.setSelectedItem(DrawOrders.INTERLACED2);
+        cmbDrawOrder.addActionListener(e -> restartRender());
         pnlButtons.add(cmbDrawOrder);
 
         //Quality
@@ -85,7 +97,10 @@ public class SampleFrame extends JFrame {
             cmbQuality.addItem(quality);
         }
         cmbQuality.setSelectedItem(Quality.LOW);
+        cmbQuality.addActionListener(e -> restartRender());
         pnlButtons.add(cmbQuality);
+        chkProgressive.addActionListener(e -> restartRender());
+        pnlButtons.add(chkProgressive);
 
         //Buttons
         btnDraw.addActionListener(e -> renderToScreen());
@@ -145,23 +160,47 @@ public class SampleFrame extends JFrame {
         }
     }
 
+    /**
+     * Cancels the current render, without waiting for it. It stops in its own thread, after the tiles already being
+     * traced, and its listener is no longer the current one, so it leaves the screen to the next render.
+     */
+    private void stopRender() {
+        if (render != null) render.cancel();
+        waiter = null;
+    }
+
+    /**
+     * Renders the screen again with the new settings, if it's being rendered.
+     */
+    private void restartRender() {
+        if (renderToScreen && render != null && !render.isDone()) renderToScreen();
+    }
+
     public void renderToScreen() {
+        stopRender();
         renderToScreen = true;
 
         final var samples = ((Quality) cmbQuality.getSelectedItem()).getSamples();
+        waiter = new WorldWaiter(true, chkProgressive.isSelected() ? samples : 0);
         final var world = ((WorldMaker) cmbScene.getSelectedItem()).createScene(samples, 1.0f, waiter);
         final var drawOrder = (DrawOrder) cmbDrawOrder.getSelectedItem();
 
         final var vp = new ViewPlane(800, 450, samples);
         vp.setDrawOrder(drawOrder);
-        world.render(vp);
+        vp.setNumThreads(Runtime.getRuntime().availableProcessors());
+        if (chkProgressive.isSelected()) vp.setProgressiveRendering(new ProgressiveRendering(samples, 0));
+        render = world.setAccelerated(true).render(vp);
     }
 
     private void renderToFile() {
+        stopRender();
         renderToScreen = false;
         final var samples = ((Quality) cmbQuality.getSelectedItem()).getSamples();
+        waiter = new WorldWaiter(false, 0);
         final var world = ((WorldMaker) cmbScene.getSelectedItem()).createScene(samples, 2.4f, waiter);
-        world.render(new ViewPlane(1920, 1080, samples));
+        final var vp = new ViewPlane(1920, 1080, samples);
+        vp.setNumThreads(Runtime.getRuntime().availableProcessors());
+        render = world.setAccelerated(true).render(vp);
     }
 
     private enum Quality {
@@ -189,19 +228,39 @@ public class SampleFrame extends JFrame {
         private int count;
         private BufferedImage image;
         private long lastTimePainted;
+        private final boolean toScreen;
+        /**
+         * Number of passes of a progressive render, or 0 if the image is traced pixel by pixel.
+         */
+        private final int passes;
+
+        private WorldWaiter(boolean toScreen, int passes) {
+            this.toScreen = toScreen;
+            this.passes = passes;
+        }
+
+        /**
+         * @return True if this is the listener of the current render. Listeners of stopped renders don't update the
+         * frame.
+         */
+        private boolean isCurrent() {
+            return waiter == this;
+        }
 
         @Override
         public void traceStarted(World world, int width, int height) {
             image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
 
-            pbProgress.setMinimum(0);
-            pbProgress.setMaximum(width * height);
             count = 0;
+            if (isCurrent()) {
+                pbProgress.setMinimum(0);
+                pbProgress.setMaximum(passes > 0 ? passes : width * height);
+            }
             EventQueue.invokeLater(() -> {
-                btnDraw.setEnabled(false);
+                if (!isCurrent()) return;
                 btnSave.setEnabled(false);
-                if (renderToScreen) {
-                    btnDraw.setText("Drawing...");
+                if (toScreen) {
+                    btnDraw.setText("Restart");
                     output.setIcon(new ImageIcon(image));
                 } else {
                     btnSave.setText("Drawing...");
@@ -218,9 +277,32 @@ public class SampleFrame extends JFrame {
         @Override
         public void pixelTraced(World world, int x, int y, Vector3 color) {
             image.setRGB(x, y, color.toRGB());
-            count++;
+            updateProgress(world, 1);
+        }
+
+        @Override
+        public void tileTraced(World world, int x, int y, int width, int height, float[] rgb) {
+            final var pixels = new int[width * height];
+            for (var i = 0; i < pixels.length; i++) {
+                pixels[i] = Vector3.toRGB(rgb[i * 3], rgb[i * 3 + 1], rgb[i * 3 + 2]);
+            }
+            image.setRGB(x, y, width, height, pixels, 0, width);
+            if (passes == 0) updateProgress(world, pixels.length);
+        }
+
+        @Override
+        public void passTraced(World world, int samples) {
+            if (!isCurrent()) return;
+            count = samples;
+            pbProgress.setValue(count);
+            pbProgress.setString(String.format("Drawing %s: pass %d of %d", world.getName(), count, passes));
+            repaint();
+        }
+
+        private void updateProgress(World world, int traced) {
+            count += traced;
 
-            if (System.currentTimeMillis() - lastTimePainted > 500) {
+            if (isCurrent() && System.currentTimeMillis() - lastTimePainted > 500) {
                 pbProgress.setValue(count);
                 pbProgress.setString(String.format("Drawing %s: %.2f%% - pixel %d of %d",
                         world.getName(), count * 100.0 / pbProgress.getMaximum(), count, pbProgress.getMaximum()));
@@ -232,16 +314,19 @@ public class SampleFrame extends JFrame {
 
         @Override
         public void traceFinished(final World world, final long renderTime) {
-            setTitle(String.format(RENDER_INFO, world.getName(), formatRenderTime(renderTime)));
             world.removeListener(this);
+            if (!isCurrent()) return;
+            final var cancelled = world.getCurrentRender().isCancelled();
+            if (!cancelled) setTitle(String.format(RENDER_INFO, world.getName(), formatRenderTime(renderTime)));
             EventQueue.invokeLater(() -> {
+                if (!isCurrent()) return;
                 btnSave.setText("Save in full HD");
                 btnSave.setEnabled(true);
                 btnDraw.setText("Draw");
                 btnDraw.setEnabled(true);
                 pbProgress.setValue(0);
-                pbProgress.setString("Done!");
-                if (!renderToScreen) {
+                pbProgress.setString(cancelled ? "Cancelled" : "Done!");
+                if (!toScreen && !cancelled) {
                     saveFile(world, renderTime);
                 }
             });
@@ -25,13 +25,14 @@ import br.com.vinigodoy.raytracer.math.geometry.primitive.*;
 import br.com.vinigodoy.raytracer.sampler.Sampler;
 import br.com.vinigodoy.raytracer.scene.World;
 import br.com.vinigodoy.raytracer.scene.WorldListener;
+import br.com.vinigodoy.raytracer.stats.SceneBuildEvent;
 import br.com.vinigodoy.raytracer.tracer.AreaLightTracer;
 import br.com.vinigodoy.raytracer.tracer.Raycasting;
 
 public enum WorldMaker {
     BALLS {
         @Override
-        public World createScene(int numSamples, float zoom, WorldListener listener) {
+        protected World build(int numSamples, float zoom, WorldListener listener) {
             final var camera = new PinholeCamera(
                     new Vector3(0, 0, 800),
                     new Vector3(0, 0, 0),
@@ -137,7 +138,7 @@ public enum WorldMaker {
         }
 
         @Override
-        public World createScene(int numSamples, float zoom, WorldListener listener) {
+        protected World build(int numSamples, float zoom, WorldListener listener) {
             final var camera = new ThinLensCamera(
                     new Vector3(10, 10, 190),
                     new Vector3(0, 0, 0),
@@ -231,7 +232,7 @@ public enum WorldMaker {
         }
 
         @Override
-        public World createScene(int numSamples, float zoom, WorldListener listener) {
+        protected World build(int numSamples, float zoom, WorldListener listener) {
             final var camera = new ThinLensCamera(
                 new Vector3(-50, 80, 210),
                 new Vector3(0, 0, 0),
@@ -285,7 +286,23 @@ public enum WorldMaker {
         }
     };
 
-    public abstract World createScene(int numSamples, float zoom, WorldListener listener);
+    /**
+     * Creates the scene. Recorded as a {@link SceneBuildEvent} by the flight recorder.
+     *
+     * @param numSamples Samples per pixel.
+     * @param zoom       Camera zoom.
+     * @param listener   Listener added to the world.
+     * @return The world.
+     */
+    public World createScene(int numSamples, float zoom, WorldListener listener) {
+        final var event = new SceneBuildEvent();
+        event.begin();
+        final var world = build(numSamples, zoom, listener);
+        event.commit(name(), numSamples, zoom);
+        return world;
+    }
+
+    protected abstract World build(int numSamples, float zoom, WorldListener listener);
 
     @Override
     public String toString() {
@@ -0,0 +1,215 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.image;
+
+import br.com.vinigodoy.raytracer.stats.ImageWriteEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static br.com.vinigodoy.raytracer.image.PfmWriter.writeFully;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes scanline OpenEXR images, with R, G and B channels of 32 bit floats, uncompressed or RLE compressed.
+ * <p>
+ * Each row is a chunk of the file. Rows are encoded one at a time in a direct buffer and written through a file
+ * channel. The offset table, which precedes the rows, is filled in once all rows are written.
+ */
+public final class ExrWriter {
+    /**
+     * Compression methods.
+     */
+    public enum Compression {
+        /**
+         * No compression. Fastest to write and read.
+         */
+        NONE,
+        /**
+         * Run length encoding of the byte differences. Lossless and cheap, and shrinks flat areas well.
+         */
+        RLE
+    }
+
+    private static final int MAGIC = 20000630;
+    private static final int VERSION = 2;           //Single part scanline file
+    private static final int FLOAT = 2;             //Channel pixel type
+    private static final String[] CHANNELS = {"B", "G", "R"};   //Channels are stored in alphabetical order
+
+    private static final int MIN_RUN_LENGTH = 3;
+    private static final int MAX_RUN_LENGTH = 127;
+
+    private ExrWriter() {
+    }
+
+    /**
+     * Writes the image.
+     *
+     * @param path        The file path.
+     * @param image       The image to write.
+     * @param compression The compression method.
+     * @throws IOException If the file could not be written.
+     */
+    public static void write(Path path, FrameBuffer image, Compression compression) throws IOException {
+        final var event = new ImageWriteEvent();
+        event.begin();
+        final var width = image.getWidth();
+        final var height = image.getHeight();
+
+        try (var channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            final var header = header(width, height, compression);
+            writeFully(channel, header);
+
+            //Offset table, written once the rows are
+            final var offsets = ByteBuffer.allocate(height * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            channel.position(channel.position() + offsets.capacity());
+
+            final var rowSize = width * CHANNELS.length * Float.BYTES;
+            final var row = new float[width * 3];
+            final var raw = new byte[rowSize];
+            final var rawBuffer = ByteBuffer.wrap(raw).order(ByteOrder.LITTLE_ENDIAN);
+            final var reordered = compression == Compression.RLE ? new byte[rowSize] : null;
+            final var packed = compression == Compression.RLE ? new byte[rowSize * 2] : null;
+            final var chunk = ByteBuffer.allocateDirect(8 + rowSize).order(ByteOrder.LITTLE_ENDIAN);
+
+            for (var y = 0; y < height; y++) {
+                image.getRow(y, row);
+                rawBuffer.clear();
+                for (var c = 2; c >= 0; c--) {       //B, G, R
+                    for (var x = 0; x < width; x++) rawBuffer.putFloat(row[x * 3 + c]);
+                }
+
+                offsets.putLong(channel.position());
+                chunk.clear();
+                chunk.putInt(y);
+                //Rows that don't shrink are stored uncompressed
+                final var packedSize = compression == Compression.RLE ? compress(raw, reordered, packed) : rowSize;
+                if (packedSize < rowSize) chunk.putInt(packedSize).put(packed, 0, packedSize);
+                else chunk.putInt(rowSize).put(raw);
+                chunk.flip();
+                writeFully(channel, chunk);
+            }
+
+            offsets.flip();
+            channel.position(header.limit());
+            writeFully(channel, offsets);
+        }
+        event.commit("OpenEXR", path, width, height);
+    }
+
+    private static ByteBuffer header(int width, int height, Compression compression) {
+        final var header = ByteBuffer.allocate(512).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+
+        attribute(header, "channels", "chlist", CHANNELS.length * 18 + 1);
+        for (var name : CHANNELS) {
+            putString(header, name);
+            header.putInt(FLOAT);
+            header.putInt(0);   //pLinear and reserved
+            header.putInt(1);   //x sampling
+            header.putInt(1);   //y sampling
+        }
+        header.put((byte) 0);
+
+        attribute(header, "compression", "compression", 1);
+        header.put((byte) compression.ordinal());
+
+        attribute(header, "dataWindow", "box2i", 16);
+        header.putInt(0).putInt(0).putInt(width - 1).putInt(height - 1);
+
+        attribute(header, "displayWindow", "box2i", 16);
+        header.putInt(0).putInt(0).putInt(width - 1).putInt(height - 1);
+
+        attribute(header, "lineOrder", "lineOrder", 1);
+        header.put((byte) 0);   //Increasing y
+
+        attribute(header, "pixelAspectRatio", "float", 4);
+        header.putFloat(1.0f);
+
+        attribute(header, "screenWindowCenter", "v2f", 8);
+        header.putFloat(0.0f).putFloat(0.0f);
+
+        attribute(header, "screenWindowWidth", "float", 4);
+        header.putFloat(1.0f);
+
+        header.put((byte) 0);   //End of header
+        return header.flip();
+    }
+
+    private static void attribute(ByteBuffer header, String name, String type, int size) {
+        putString(header, name);
+        putString(header, type);
+        header.putInt(size);
+    }
+
+    private static void putString(ByteBuffer header, String value) {
+        header.put(value.getBytes(StandardCharsets.US_ASCII));
+        header.put((byte) 0);
+    }
+
+    /**
+     * Compresses a row the way OpenEXR does: the bytes are split in two halves, with the even and the odd bytes, then
+     * replaced by their differences and run length encoded.
+     *
+     * @return The compressed size.
+     */
+    private static int compress(byte[] raw, byte[] reordered, byte[] packed) {
+        final var half = (raw.length + 1) / 2;
+        for (var i = 0; i < raw.length; i++) {
+            reordered[(i & 1) == 0 ? i / 2 : half + i / 2] = raw[i];
+        }
+
+        var previous = reordered[0] & 0xFF;
+        for (var i = 1; i < reordered.length; i++) {
+            final var current = reordered[i] & 0xFF;
+            reordered[i] = (byte) (current - previous + 128);
+            previous = current;
+        }
+
+        return runLengthEncode(reordered, packed);
+    }
+
+    private static int runLengthEncode(byte[] in, byte[] out) {
+        final var length = in.length;
+        var runStart = 0;
+        var runEnd = 1;
+        var o = 0;
+        while (runStart < length) {
+            while (runEnd < length && in[runStart] == in[runEnd] && runEnd - runStart - 1 < MAX_RUN_LENGTH)
+                runEnd++;
+
+            if (runEnd - runStart >= MIN_RUN_LENGTH) {
+                //Run of equal bytes: count - 1, followed by the byte
+                out[o++] = (byte) (runEnd - runStart - 1);
+                out[o++] = in[runStart];
+                runStart = runEnd;
+            } else {
+                //Literal bytes, until the next run of at least three equal bytes: -count, followed by the bytes
+                while (runEnd < length && runEnd - runStart < MAX_RUN_LENGTH
+                        && (runEnd + 2 >= length || in[runEnd] != in[runEnd + 1] || in[runEnd + 1] != in[runEnd + 2]))
+                    runEnd++;
+
+                out[o++] = (byte) (runStart - runEnd);
+                while (runStart < runEnd) out[o++] = in[runStart++];
+            }
+            runEnd++;
+        }
+        return o;
+    }
+}
@@ -0,0 +1,70 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.image;
+
+/**
+ * Frame buffer kept in a float array, in memory. Takes 12 bytes per pixel.
+ */
+public final class FloatFrameBuffer implements FrameBuffer {
+    private final int width;
+    private final int height;
+    private final float[] rgb;
+
+    public FloatFrameBuffer(int width, int height) {
+        if (width < 1 || height < 1)
+            throw new IllegalArgumentException("Invalid frame buffer size: " + width + "x" + height);
+        if ((long) width * height * 3 > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Frame buffer too big for the heap: " + width + "x" + height);
+
+        this.width = width;
+        this.height = height;
+        this.rgb = new float[width * height * 3];
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public void setTile(int x, int y, int width, int height, float[] rgb) {
+        for (var j = 0; j < height; j++) {
+            System.arraycopy(rgb, j * width * 3, this.rgb, ((y + j) * this.width + x) * 3, width * 3);
+        }
+    }
+
+    @Override
+    public float[] getRow(int y, float[] out) {
+        System.arraycopy(rgb, y * width * 3, out, 0, width * 3);
+        return out;
+    }
+
+    @Override
+    public void setPixel(int x, int y, float r, float g, float b) {
+        final var k = (x + y * width) * 3;
+        rgb[k] = r;
+        rgb[k + 1] = g;
+        rgb[k + 2] = b;
+    }
+
+    /**
+     * @return The pixels, as r, g, b triplets, in rows from top to bottom. Changes in the array change this buffer.
+     */
+    public float[] getPixels() {
+        return rgb;
+    }
+}
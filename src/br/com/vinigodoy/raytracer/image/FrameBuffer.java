@@ -0,0 +1,58 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.image;
+
+/**
+ * An image made of floating point colors, as r, g, b triplets. Colors are stored as traced, unclamped, so they can be
+ * exposed, tone mapped or written to HDR files later, without tracing the image again.
+ * <p>
+ * Tiles are written by the renderer and rows are read by the image writers, so the image is streamed to the files
+ * row by row, whatever the way the buffer stores it.
+ */
+public interface FrameBuffer {
+    int getWidth();
+
+    int getHeight();
+
+    /**
+     * Stores a rectangular tile of the image. Different tiles may be stored by different threads at the same time.
+     *
+     * @param x      Tile left position
+     * @param y      Tile top position
+     * @param width  Tile width
+     * @param height Tile height
+     * @param rgb    Colors, as r, g, b triplets, in rows from top to bottom.
+     */
+    void setTile(int x, int y, int width, int height, float[] rgb);
+
+    /**
+     * Stores a single pixel. By default, stores it as a 1x1 tile.
+     *
+     * @param x Pixel column
+     * @param y Pixel row, from top to bottom.
+     * @param r Red
+     * @param g Green
+     * @param b Blue
+     */
+    default void setPixel(int x, int y, float r, float g, float b) {
+        setTile(x, y, 1, 1, new float[]{r, g, b});
+    }
+
+    /**
+     * Reads a row of the image.
+     *
+     * @param y   Row, from top to bottom.
+     * @param out Array to store the row colors, as r, g, b triplets. Must have room for width * 3 floats.
+     * @return The out array.
+     */
+    float[] getRow(int y, float[] out);
+}
@@ -0,0 +1,154 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.image;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Frame buffer kept in a memory mapped file, so images far bigger than the heap can be rendered. The heap holds only
+ * the mappings, whatever the image size, and the operating system pages the pixels in and out of the file.
+ * <p>
+ * The image is stored in square tiles of 32 bit little endian floats, in rows of tiles from top to bottom. Each tile
+ * is contiguous in the file, so a traced tile touches only a few pages. Since a single mapping is limited to 2GB, the
+ * rows of tiles are grouped in several mappings.
+ * <p>
+ * The file is left on disk, and is unmapped once the buffer is garbage collected.
+ */
+public final class MappedFrameBuffer implements FrameBuffer {
+    private static final long MAX_MAPPING = 1L << 30;
+
+    private final int width;
+    private final int height;
+    private final int tileSize;
+    private final int rowsPerMapping;
+    private final FloatBuffer[] mappings;
+
+    /**
+     * Creates the buffer. If the file exists, it's overwritten.
+     *
+     * @param path     The file to store the image.
+     * @param width    Image width.
+     * @param height   Image height.
+     * @param tileSize Size of the stored tiles. Use the renderer tile size, so each traced tile touches few pages.
+     * @throws IOException If the file could not be created or mapped.
+     */
+    public MappedFrameBuffer(Path path, int width, int height, int tileSize) throws IOException {
+        this(path, width, height, tileSize, MAX_MAPPING);
+    }
+
+    /**
+     * Creates the buffer, with mappings of at most the given size. Used by tests to split small images in several
+     * mappings.
+     */
+    MappedFrameBuffer(Path path, int width, int height, int tileSize, long maxMapping) throws IOException {
+        if (width < 1 || height < 1)
+            throw new IllegalArgumentException("Invalid frame buffer size: " + width + "x" + height);
+        if (tileSize < 1)
+            throw new IllegalArgumentException("Tile size must be positive! tileSize=" + tileSize);
+
+        final var bandSize = (long) width * tileSize * 3 * Float.BYTES;
+        if (bandSize > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Frame buffer too wide: " + width + "x" + height);
+
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.rowsPerMapping = (int) Math.max(1, maxMapping / bandSize);
+
+        final var tileRows = (height + tileSize - 1) / tileSize;
+        this.mappings = new FloatBuffer[(tileRows + rowsPerMapping - 1) / rowsPerMapping];
+        try (var channel = FileChannel.open(path, CREATE, READ, WRITE, TRUNCATE_EXISTING)) {
+            for (var i = 0; i < mappings.length; i++) {
+                final var y0 = (long) i * rowsPerMapping * tileSize;
+                final var y1 = Math.min(y0 + (long) rowsPerMapping * tileSize, height);
+                final var size = (y1 - y0) * width * 3 * Float.BYTES;
+                mappings[i] = channel.map(FileChannel.MapMode.READ_WRITE, y0 * width * 3 * Float.BYTES, size)
+                        .order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+            }
+        }
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    @Override
+    public void setTile(int x, int y, int width, int height, float[] rgb) {
+        for (var j = 0; j < height; j++) {
+            final var mapping = mapping(y + j);
+            //Split the row where it crosses the stored tiles
+            for (var i = 0; i < width; ) {
+                final var length = Math.min(width - i, tileSize - (x + i) % tileSize);
+                mapping.put(index(x + i, y + j), rgb, (j * width + i) * 3, length * 3);
+                i += length;
+            }
+        }
+    }
+
+    @Override
+    public float[] getRow(int y, float[] out) {
+        final var mapping = mapping(y);
+        for (var x = 0; x < width; x += tileSize) {
+            mapping.get(index(x, y), out, x * 3, Math.min(tileSize, width - x) * 3);
+        }
+        return out;
+    }
+
+    @Override
+    public void setPixel(int x, int y, float r, float g, float b) {
+        final var mapping = mapping(y);
+        final var k = index(x, y);
+        mapping.put(k, r);
+        mapping.put(k + 1, g);
+        mapping.put(k + 2, b);
+    }
+
+    private FloatBuffer mapping(int y) {
+        return mappings[y / tileSize / rowsPerMapping];
+    }
+
+    /**
+     * Finds the index of a pixel inside its mapping. Mappings and rows of tiles are aligned, and each row of tiles
+     * takes width * tileSize pixels, but the last one, which may be shorter.
+     */
+    private int index(int x, int y) {
+        final var tileRow = y / tileSize;
+        final var tileY = tileRow * tileSize;
+        final var tileHeight = Math.min(tileSize, height - tileY);
+
+        final var tileX = x - x % tileSize;
+        final var tileWidth = Math.min(tileSize, width - tileX);
+
+        final var rowStart = (tileRow % rowsPerMapping) * width * tileSize;
+        final var tileStart = tileX * tileHeight;
+        return (rowStart + tileStart + (y - tileY) * tileWidth + (x - tileX)) * 3;
+    }
+}
@@ -0,0 +1,71 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.image;
+
+import br.com.vinigodoy.raytracer.stats.ImageWriteEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes color PFM (Portable Float Map) images, with 32 bit little endian floats. Rows are copied from the frame
+ * buffer straight into a direct buffer and written through a file channel, one at a time.
+ */
+public final class PfmWriter {
+    private PfmWriter() {
+    }
+
+    /**
+     * Writes the image.
+     *
+     * @param path  The file path.
+     * @param image The image to write.
+     * @throws IOException If the file could not be written.
+     */
+    public static void write(Path path, FrameBuffer image) throws IOException {
+        final var event = new ImageWriteEvent();
+        event.begin();
+        final var width = image.getWidth();
+        final var height = image.getHeight();
+
+        try (var channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            //A negative scale means little endian
+            final var header = String.format("PF\n%d %d\n-1.0\n", width, height);
+            writeFully(channel, ByteBuffer.wrap(header.getBytes(StandardCharsets.US_ASCII)));
+
+            final var row = new float[width * 3];
+            final var buffer = ByteBuffer.allocateDirect(width * 3 * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            final var floats = buffer.asFloatBuffer();
+
+            //PFM rows go from bottom to top
+            for (var y = height - 1; y >= 0; y--) {
+                floats.clear();
+                floats.put(image.getRow(y, row));
+                buffer.clear();
+                writeFully(channel, buffer);
+            }
+        }
+        event.commit("PFM", path, width, height);
+    }
+
+    static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+}
@@ -0,0 +1,161 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.image;
+
+import br.com.vinigodoy.raytracer.stats.ImageWriteEvent;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes 8 bit RGB PNG images without AWT. Rows are compressed and written to disk as they are encoded, split in
+ * several IDAT chunks, so the encoded image is never fully kept in memory.
+ */
+public final class PngWriter {
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private PngWriter() {
+    }
+
+    /**
+     * Writes the image.
+     *
+     * @param path   The file path.
+     * @param width  Image width.
+     * @param height Image height.
+     * @param rgb    Pixels, in rows from top to bottom, as 0xRRGGBB integers.
+     * @throws IOException If the file could not be written.
+     */
+    public static void write(Path path, int width, int height, int[] rgb) throws IOException {
+        write(path, width, height, RowReader.of(width, rgb));
+    }
+
+    /**
+     * Writes a frame buffer, saturating its colors to 8 bits.
+     *
+     * @param path  The file path.
+     * @param image The image to write.
+     * @throws IOException If the file could not be written.
+     */
+    public static void write(Path path, FrameBuffer image) throws IOException {
+        write(path, image.getWidth(), image.getHeight(), RowReader.of(image));
+    }
+
+    private static void write(Path path, int width, int height, RowReader rows) throws IOException {
+        final var event = new ImageWriteEvent();
+        event.begin();
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.write(SIGNATURE);
+
+            final var header = new byte[13];
+            putInt(header, 0, width);
+            putInt(header, 4, height);
+            header[8] = 8;  //Bit depth
+            header[9] = 2;  //Color type: RGB
+            writeChunk(out, "IHDR", header, header.length);
+
+            final var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+            try (var idat = new DeflaterOutputStream(new ChunkOutputStream(out, "IDAT"), deflater, CHUNK_SIZE)) {
+                final var pixels = new int[width];
+                final var row = new byte[1 + width * 3];   //First byte is the filter type: none
+                for (var y = 0; y < height; y++) {
+                    rows.read(y, pixels);
+                    for (var x = 0; x < width; x++) {
+                        final var color = pixels[x];
+                        row[1 + x * 3] = (byte) (color >> 16);
+                        row[2 + x * 3] = (byte) (color >> 8);
+                        row[3 + x * 3] = (byte) color;
+                    }
+                    idat.write(row);
+                }
+            } finally {
+                deflater.end();
+            }
+
+            writeChunk(out, "IEND", new byte[0], 0);
+        }
+        event.commit("PNG", path, width, height);
+    }
+
+    private static void putInt(byte[] data, int offset, int value) {
+        data[offset] = (byte) (value >>> 24);
+        data[offset + 1] = (byte) (value >>> 16);
+        data[offset + 2] = (byte) (value >>> 8);
+        data[offset + 3] = (byte) value;
+    }
+
+    private static void writeChunk(DataOutputStream out, String type, byte[] data, int length) throws IOException {
+        final var typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        final var crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+
+        out.writeInt(length);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+        out.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Buffers the written data and emits it as chunks of the given type. Closing this stream flushes the last chunk,
+     * but does not close the underlying stream.
+     */
+    private static final class ChunkOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final String type;
+        private final byte[] buffer = new byte[CHUNK_SIZE];
+        private int count;
+
+        private ChunkOutputStream(DataOutputStream out, String type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) flushChunk();
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (count == buffer.length) flushChunk();
+                final var n = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, n);
+                count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        private void flushChunk() throws IOException {
+            if (count == 0) return;
+            writeChunk(out, type, buffer, count);
+            count = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            flushChunk();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.image;
+
+import br.com.vinigodoy.raytracer.stats.ImageWriteEvent;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes binary (P6) PPM images, one row at a time.
+ */
+public final class PpmWriter {
+    private PpmWriter() {
+    }
+
+    /**
+     * Writes the image.
+     *
+     * @param path   The file path.
+     * @param width  Image width.
+     * @param height Image height.
+     * @param rgb    Pixels, in rows from top to bottom, as 0xRRGGBB integers.
+     * @throws IOException If the file could not be written.
+     */
+    public static void write(Path path, int width, int height, int[] rgb) throws IOException {
+        write(path, width, height, RowReader.of(width, rgb));
+    }
+
+    /**
+     * Writes a frame buffer, saturating its colors to 8 bits.
+     *
+     * @param path  The file path.
+     * @param image The image to write.
+     * @throws IOException If the file could not be written.
+     */
+    public static void write(Path path, FrameBuffer image) throws IOException {
+        write(path, image.getWidth(), image.getHeight(), RowReader.of(image));
+    }
+
+    private static void write(Path path, int width, int height, RowReader rows) throws IOException {
+        final var event = new ImageWriteEvent();
+        event.begin();
+        try (var out = new BufferedOutputStream(Files.newOutputStream(path))) {
+            out.write(String.format("P6\n%d %d\n255\n", width, height).getBytes(StandardCharsets.US_ASCII));
+
+            final var pixels = new int[width];
+            final var row = new byte[width * 3];
+            for (var y = 0; y < height; y++) {
+                rows.read(y, pixels);
+                for (var x = 0; x < width; x++) {
+                    final var color = pixels[x];
+                    row[x * 3] = (byte) (color >> 16);
+                    row[x * 3 + 1] = (byte) (color >> 8);
+                    row[x * 3 + 2] = (byte) color;
+                }
+                out.write(row);
+            }
+        }
+        event.commit("PPM", path, width, height);
+    }
+}
@@ -0,0 +1,45 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.image;
+
+import br.com.vinigodoy.raytracer.math.Vector3;
+
+/**
+ * Reads the rows of an 8 bit image, so the writers can encode images kept as integer arrays or frame buffers alike.
+ */
+@FunctionalInterface
+interface RowReader {
+    /**
+     * Reads a row.
+     *
+     * @param y   Row, from top to bottom.
+     * @param out Array to store the row pixels, as 0xRRGGBB integers.
+     */
+    void read(int y, int[] out);
+
+    static RowReader of(int width, int[] rgb) {
+        return (y, out) -> System.arraycopy(rgb, y * width, out, 0, width);
+    }
+
+    /**
+     * Reads the rows of a frame buffer, saturating the colors with {@link Vector3#toRGB(float, float, float)}.
+     */
+    static RowReader of(FrameBuffer image) {
+        final var row = new float[image.getWidth() * 3];
+        return (y, out) -> {
+            image.getRow(y, row);
+            for (var x = 0; x < out.length; x++) {
+                out[x] = Vector3.toRGB(row[x * 3], row[x * 3 + 1], row[x * 3 + 2]);
+            }
+        };
+    }
+}
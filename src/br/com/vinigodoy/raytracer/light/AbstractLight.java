@@ -13,7 +13,12 @@ package br.com.vinigodoy.raytracer.light;
 
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 public abstract class AbstractLight implements Light {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private boolean castShadows = true;
 
     public AbstractLight() {
@@ -15,12 +15,17 @@ import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.multiply;
 /**
  * Defines an uniform ambient light. Ambient lights leaves no shading and are usually used to represent the
  * "maximum darkness" of a scene. Use ambient lights to see object contours in almost absolute darkness.
  */
 public class AmbientLight extends AbstractLight {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private float ls;
     private Vector3 color;
 
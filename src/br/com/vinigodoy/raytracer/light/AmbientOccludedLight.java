@@ -6,6 +6,8 @@ import br.com.vinigodoy.raytracer.sampler.Sampler;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 import br.com.vinigodoy.raytracer.utility.UVW;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.multiply;
 
 /*
@@ -20,12 +22,14 @@ is free to be redistributed or used under Creative Commons license 2.5 br:
 http://creativecommons.org/licenses/by-sa/2.5/br/
 ============================================================================*/
 public class AmbientOccludedLight extends AbstractLight {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private float ls;
     private Vector3 color;
 
     private final float minAmount;
     private final Sampler sampler;
-    private UVW uvw;
 
     public AmbientOccludedLight(float ls, Vector3 color, float minAmount, Sampler sampler) {
         this.ls = ls;
@@ -52,7 +56,8 @@ public class AmbientOccludedLight extends AbstractLight {
 
     @Override
     public Vector3 getDirection(ShadeRec sr) {
-        return uvw.transform(sampler.nextSampleHemisphere());
+        final var uvw = UVW.from(sr.normal, new Vector3(0.0072f, 1.0f, 0.0034f));
+        return uvw.transform(sampler.nextSampleHemisphere(sr.hemisphereSample));
     }
 
     @Override
@@ -62,8 +67,6 @@ public class AmbientOccludedLight extends AbstractLight {
 
     @Override
     public Vector3 L(ShadeRec sr) {
-        uvw = UVW.from(sr.normal, new Vector3(0.0072f, 1.0f, 0.0034f));
-
         final var shadow_ray = new Ray(sr.worldHitPoint, getDirection(sr));
         return multiply(color, inShadow(shadow_ray, sr) ? ls * minAmount : ls);
     }
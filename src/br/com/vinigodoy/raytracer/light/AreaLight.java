@@ -5,6 +5,8 @@ import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.math.geometry.EmissiveObject;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.negate;
 import static br.com.vinigodoy.raytracer.math.Vector3.subtract;
 
@@ -20,34 +22,37 @@ is free to be redistributed or used under Creative Commons license 2.5 br:
 http://creativecommons.org/licenses/by-sa/2.5/br/
 ============================================================================*/
 public class AreaLight extends AbstractLight {
-    private final EmissiveObject object;
+    @Serial
+    private static final long serialVersionUID = 1L;
 
-    private Vector3 samplePoint;
-    private Vector3 lightNormal;
-    private Vector3 wi;
+    private final EmissiveObject object;
 
     public AreaLight(EmissiveObject object) {
         this.object = object;
     }
 
+    /**
+     * Samples a point in the light surface. The sample is kept in the shade rec, instead of in this light, so the
+     * same light can be shaded by several threads at once.
+     */
     @Override
     public Vector3 getDirection(ShadeRec sr) {
-        samplePoint = object.sample();
-        lightNormal = object.getNormal(samplePoint);
-        wi = subtract(samplePoint, sr.worldHitPoint).normalize();
-        return wi;
+        sr.lightSamplePoint = object.sample(sr);
+        sr.lightNormal = object.getNormal(sr.lightSamplePoint);
+        sr.dir = subtract(sr.lightSamplePoint, sr.worldHitPoint).normalize();
+        return sr.dir;
     }
 
     @Override
     public Vector3 L(ShadeRec sr) {
-        return negate(lightNormal).dot(wi) > 0.0f ?
+        return negate(sr.lightNormal).dot(sr.dir) > 0.0f ?
                 object.getEmissiveMaterial().getLe(sr) : new Vector3();
     }
 
     @Override
     public float G(ShadeRec sr) {
-        final var ndotd = negate(lightNormal).dot(wi);
-        final var d2 = samplePoint.distanceSqr(sr.worldHitPoint);
+        final var ndotd = negate(sr.lightNormal).dot(sr.dir);
+        final var d2 = sr.lightSamplePoint.distanceSqr(sr.worldHitPoint);
         return ndotd / d2;
     }
 
@@ -58,7 +63,7 @@ public class AreaLight extends AbstractLight {
 
     @Override
     public boolean inShadow(Ray ray, ShadeRec sr) {
-        final var ts = subtract(samplePoint, ray.getOrigin()).dot(ray.getDirection());
+        final var ts = subtract(sr.lightSamplePoint, ray.getOrigin()).dot(ray.getDirection());
         return sr.world.shadowHit(ray, ts);
     }
 
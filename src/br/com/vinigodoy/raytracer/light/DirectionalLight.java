@@ -15,6 +15,8 @@ import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.multiply;
 import static br.com.vinigodoy.raytracer.math.Vector3.normalize;
 
@@ -23,6 +25,9 @@ import static br.com.vinigodoy.raytracer.math.Vector3.normalize;
  * usually a good simplification for really far light sources, such as the sun light.
  */
 public class DirectionalLight extends AbstractLight {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private float ls;
     private Vector3 color;
     private Vector3 direction;
@@ -18,7 +18,12 @@ import br.com.vinigodoy.raytracer.sampler.Sampler;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 import br.com.vinigodoy.raytracer.utility.UVW;
 
+import java.io.Serial;
+
 public class EnvironmentLight extends AbstractLight {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final Sampler sampler;
     private final EmissiveMaterial material;
 
@@ -30,7 +35,7 @@ public class EnvironmentLight extends AbstractLight {
     @Override
     public Vector3 getDirection(ShadeRec sr) {
         return UVW.from(sr.normal, new Vector3(0.0034f, 1.0000f, 0.0071f))
-                .transform(sampler.nextSampleHemisphere());
+                .transform(sampler.nextSampleHemisphere(sr.hemisphereSample));
     }
 
     @Override
@@ -15,10 +15,12 @@ import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serializable;
+
 /**
  * Base class for all light sources.
  */
-public interface Light extends Cloneable {
+public interface Light extends Cloneable, Serializable {
     /**
      * Returns the light incident direction at the shade rect.
      *
@@ -14,6 +14,8 @@ import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.multiply;
 import static br.com.vinigodoy.raytracer.math.Vector3.subtract;
 
@@ -21,6 +23,9 @@ import static br.com.vinigodoy.raytracer.math.Vector3.subtract;
  * Represents a point irradiating light. It's usually a reasonable simplification of lamps.
  */
 public class PointLight extends AbstractLight {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private float ls;
     private Vector3 color;
     private Vector3 position;
@@ -17,10 +17,15 @@ import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.mul;
 import static br.com.vinigodoy.raytracer.math.Vector3.negate;
 
 public abstract class AbstractMaterial implements Material {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     protected final Lambertian ambient;
 
     public AbstractMaterial(float ka, Vector3 color) {
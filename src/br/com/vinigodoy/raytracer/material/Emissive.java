@@ -13,6 +13,8 @@ package br.com.vinigodoy.raytracer.material;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.multiply;
 import static br.com.vinigodoy.raytracer.math.Vector3.negate;
 
@@ -20,6 +22,9 @@ import static br.com.vinigodoy.raytracer.math.Vector3.negate;
  * Represents a material that can emit light.
  */
 public class Emissive implements EmissiveMaterial {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final float ls;
     private final Vector3 ce;
 
@@ -15,7 +15,9 @@ package br.com.vinigodoy.raytracer.material;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
-public interface Material extends Cloneable {
+import java.io.Serializable;
+
+public interface Material extends Cloneable, Serializable {
 
     /**
      * Provides shading information indefinite area lights, such as Ambient, Point and Directional lights.
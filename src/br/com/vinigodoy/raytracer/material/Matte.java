@@ -15,9 +15,14 @@ import br.com.vinigodoy.raytracer.light.Light;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.mul;
 
 public class Matte extends AbstractMaterial {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
 
     private final Lambertian diffuse;
 
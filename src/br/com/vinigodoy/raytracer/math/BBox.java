@@ -12,11 +12,28 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 package br.com.vinigodoy.raytracer.math;
 
 import br.com.vinigodoy.raytracer.math.geometry.GeometricObject;
+import br.com.vinigodoy.raytracer.stats.Counter;
+import br.com.vinigodoy.raytracer.stats.RenderStats;
+import br.com.vinigodoy.raytracer.stats.ThreadStats;
+
+import java.io.Serial;
+import java.io.Serializable;
 
 /**
  * Represents an axis aligned bounding box.
  */
-public class BBox {
+public class BBox implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Bounds of objects with infinite extent, like planes. Those objects can't be placed in acceleration structures.
+     */
+    public static final BBox UNBOUNDED = new BBox(
+            Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY,
+            Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY,
+            Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY);
+
     private final float x0;
     private final float y0;
     private final float z0;
@@ -42,6 +59,54 @@ public class BBox {
         this.z1 = z1;
     }
 
+    /**
+     * Creates the smallest box enclosing both given boxes.
+     *
+     * @param b1 Box 1
+     * @param b2 Box 2
+     * @return The union of both boxes.
+     */
+    public static BBox union(BBox b1, BBox b2) {
+        return new BBox(
+                Math.min(b1.x0, b2.x0), Math.max(b1.x1, b2.x1),
+                Math.min(b1.y0, b2.y0), Math.max(b1.y1, b2.y1),
+                Math.min(b1.z0, b2.z0), Math.max(b1.z1, b2.z1));
+    }
+
+    /**
+     * @return True if this box has a finite extent in all axis.
+     * @see #UNBOUNDED
+     */
+    public boolean isBounded() {
+        return Float.isFinite(x0) && Float.isFinite(x1) &&
+                Float.isFinite(y0) && Float.isFinite(y1) &&
+                Float.isFinite(z0) && Float.isFinite(z1);
+    }
+
+    public float getX0() {
+        return x0;
+    }
+
+    public float getY0() {
+        return y0;
+    }
+
+    public float getZ0() {
+        return z0;
+    }
+
+    public float getX1() {
+        return x1;
+    }
+
+    public float getY1() {
+        return y1;
+    }
+
+    public float getZ1() {
+        return z1;
+    }
+
     /**
      * Test if the rays intersects the bounding box
      *
@@ -49,6 +114,17 @@ public class BBox {
      * @return True if intersects
      */
     public boolean hit(Ray ray) {
+        return hit(ray, RenderStats.current());
+    }
+
+    /**
+     * Test if the rays intersects the bounding box
+     *
+     * @param ray   The ray
+     * @param stats Counters of the current thread, or null if the statistics are disabled.
+     * @return True if intersects
+     */
+    public boolean hit(Ray ray, ThreadStats stats) {
         final var ox = ray.getOrigin().getX();
         final var oy = ray.getOrigin().getY();
         final var oz = ray.getOrigin().getZ();
@@ -106,7 +182,12 @@ public class BBox {
         if (tz_max < t1)
             t1 = tz_max;
 
-        return (t0 < t1 && t1 > GeometricObject.K_EPSILON);
+        final var hit = t0 < t1 && t1 > GeometricObject.K_EPSILON;
+        if (stats != null) {
+            stats.count(Counter.BBOX_TESTS);
+            if (!hit) stats.count(Counter.BBOX_REJECTIONS);
+        }
+        return hit;
     }
 
     /**
@@ -120,4 +201,9 @@ public class BBox {
                 p.getY() > y0 && p.getY() < y1 &&
                 p.getZ() > z0 && p.getZ() < z1;
     }
+
+    @Override
+    public String toString() {
+        return String.format("bbox(%.2f, %.2f, %.2f)-(%.2f, %.2f, %.2f)", x0, y0, z0, x1, y1, z1);
+    }
 }
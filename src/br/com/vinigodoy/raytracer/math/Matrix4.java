@@ -11,11 +11,17 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 
 package br.com.vinigodoy.raytracer.math;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 
 /**
  * Represents a 4x4 matrix.
  */
-public final class Matrix4 implements Cloneable {
+public final class Matrix4 implements Cloneable, Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private float[][] A = new float[4][4];
 
     /**
@@ -163,7 +169,7 @@ public final class Matrix4 implements Cloneable {
         final var sinA = (float) Math.sin(angle);
         return new Matrix4(
                 cosA, 0.0f, sinA, 0.0f,
-                0.0f, 0.0f, 1.0f, 0.0f,
+                0.0f, 1.0f, 0.0f, 0.0f,
                 -sinA, 0.0f, cosA, 0.0f,
                 0.0f, 0.0f, 0.0f, 1.0f);
     }
@@ -738,6 +744,40 @@ public final class Matrix4 implements Cloneable {
                 A[2][0] * d.getX() + A[2][1] * d.getY() + A[2][2] * d.getZ());
     }
 
+    /**
+     * Multiplies the matrix by the given point, writing the result into another vector.
+     *
+     * @param p      The point
+     * @param result The vector that receives the transformed point. It may be the point itself.
+     * @return The result vector.
+     */
+    public Vector3 transformPoint(Vector3 p, Vector3 result) {
+        final var x = p.getX();
+        final var y = p.getY();
+        final var z = p.getZ();
+        return result.set(
+                A[0][0] * x + A[0][1] * y + A[0][2] * z + A[0][3],
+                A[1][0] * x + A[1][1] * y + A[1][2] * z + A[1][3],
+                A[2][0] * x + A[2][1] * y + A[2][2] * z + A[2][3]);
+    }
+
+    /**
+     * Multiplies the matrix by the given direction, ignoring the translation, writing the result into another vector.
+     *
+     * @param d      The direction
+     * @param result The vector that receives the transformed direction. It may be the direction itself.
+     * @return The result vector.
+     */
+    public Vector3 transformDirection(Vector3 d, Vector3 result) {
+        final var x = d.getX();
+        final var y = d.getY();
+        final var z = d.getZ();
+        return result.set(
+                A[0][0] * x + A[0][1] * y + A[0][2] * z,
+                A[1][0] * x + A[1][1] * y + A[1][2] * z,
+                A[2][0] * x + A[2][1] * y + A[2][2] * z);
+    }
+
     /**
      * Multiplies the matrix by the given vector. The result is a transformed vector.
      *
@@ -752,6 +792,55 @@ public final class Matrix4 implements Cloneable {
                 .normalize();
     }
 
+    /**
+     * Multiplies the transpose of the matrix by the given normal, writing the normalized result into another vector.
+     *
+     * @param n      The normal
+     * @param result The vector that receives the transformed normal. It may be the normal itself.
+     * @return The result vector.
+     */
+    public Vector3 transformNormal(Vector3 n, Vector3 result) {
+        final var x = n.getX();
+        final var y = n.getY();
+        final var z = n.getZ();
+        return result.set(
+                A[0][0] * x + A[1][0] * y + A[2][0] * z,
+                A[0][1] * x + A[1][1] * y + A[2][1] * z,
+                A[0][2] * x + A[1][2] * y + A[2][2] * z)
+                .normalize();
+    }
+
+    /**
+     * Transforms the given box by this matrix. The result is the axis aligned box enclosing all transformed corners.
+     *
+     * @param box The box
+     * @return The transformed box. Unbounded boxes stay unbounded.
+     */
+    public BBox transformBox(BBox box) {
+        if (!box.isBounded()) return BBox.UNBOUNDED;
+
+        var x0 = Float.POSITIVE_INFINITY;
+        var y0 = Float.POSITIVE_INFINITY;
+        var z0 = Float.POSITIVE_INFINITY;
+        var x1 = Float.NEGATIVE_INFINITY;
+        var y1 = Float.NEGATIVE_INFINITY;
+        var z1 = Float.NEGATIVE_INFINITY;
+
+        for (var i = 0; i < 8; i++) {
+            final var p = transformPoint(new Vector3(
+                    (i & 1) == 0 ? box.getX0() : box.getX1(),
+                    (i & 2) == 0 ? box.getY0() : box.getY1(),
+                    (i & 4) == 0 ? box.getZ0() : box.getZ1()));
+            x0 = Math.min(x0, p.getX());
+            y0 = Math.min(y0, p.getY());
+            z0 = Math.min(z0, p.getZ());
+            x1 = Math.max(x1, p.getX());
+            y1 = Math.max(y1, p.getY());
+            z1 = Math.max(z1, p.getZ());
+        }
+        return new BBox(x0, x1, y0, y1, z0, z1);
+    }
+
     /**
      * Transforms this ray origin and direction by this matrix.
      * @param ray The ray to transform
@@ -12,6 +12,8 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 package br.com.vinigodoy.raytracer.math;
 
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
@@ -24,7 +26,10 @@ import java.util.Objects;
  * Class methods returns the vector itself, allowing invocation chaining e.g.:
  * <code>v1.add(v2).normalize();</code>
  */
-public class Vector2 implements Cloneable {
+public class Vector2 implements Cloneable, Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private float x;
     private float y;
 
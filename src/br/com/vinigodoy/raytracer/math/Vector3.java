@@ -11,6 +11,8 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 
 package br.com.vinigodoy.raytracer.math;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
@@ -23,7 +25,10 @@ import java.util.Objects;
  * Class methods returns the vector itself, allowing invocation chaining e.g.:
  * <code>v1.add(v2).normalize();</code>
  */
-public class Vector3 implements Cloneable {
+public class Vector3 implements Cloneable, Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private float x;
     private float y;
     private float z;
@@ -267,6 +272,16 @@ public class Vector3 implements Cloneable {
         return this;
     }
 
+    /**
+     * Copies the components of another vector.
+     *
+     * @param other The vector to copy
+     * @return This vector.
+     */
+    public Vector3 set(Vector3 other) {
+        return set(other.x, other.y, other.z);
+    }
+
     /**
      * @return the size of this vector squared.
      */
@@ -445,13 +460,31 @@ public class Vector3 implements Cloneable {
      * @return The color as int with RGB format.
      */
     public int toRGB() {
-        final var color = saturate(this);
+        return toRGB(x, y, z);
+    }
+
+    /**
+     * Converts the given color components to an RGB color, saturating them the same way {@link #toRGB()} does.
+     *
+     * @param r Red component
+     * @param g Green component
+     * @param b Blue component
+     * @return The color as int with RGB format.
+     */
+    public static int toRGB(float r, float g, float b) {
+        final var max = Math.max(Math.max(r, g), b);
+        if (max > 1.0f) {
+            final var inv = 1.0f / max;
+            r *= inv;
+            g *= inv;
+            b *= inv;
+        }
 
-        final var r = (Math.round(color.x * 255) & 0xFF);
-        final var g = (Math.round(color.y * 255) & 0xFF);
-        final var b = (Math.round(color.z * 255) & 0xFF);
+        final var ir = (Math.round(r * 255) & 0xFF);
+        final var ig = (Math.round(g * 255) & 0xFF);
+        final var ib = (Math.round(b * 255) & 0xFF);
 
-        return r << 16 | g << 8 | b;
+        return ir << 16 | ig << 8 | ib;
     }
 
     @Override
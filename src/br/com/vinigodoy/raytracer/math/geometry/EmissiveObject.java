@@ -20,9 +20,12 @@ import br.com.vinigodoy.raytracer.utility.ShadeRec;
  */
 public interface EmissiveObject {
     /**
+     * Samples a point in the object surface.
+     *
+     * @param sr Shade rec of the point being shaded. Its sample vectors are used to read the sample.
      * @return A sampled point in objects surface
      */
-    Vector3 sample();
+    Vector3 sample(ShadeRec sr);
 
     /**
      * Calculate the pdf at a given point
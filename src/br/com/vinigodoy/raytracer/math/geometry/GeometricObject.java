@@ -12,11 +12,15 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 package br.com.vinigodoy.raytracer.math.geometry;
 
 import br.com.vinigodoy.raytracer.material.Material;
+import br.com.vinigodoy.raytracer.math.BBox;
 import br.com.vinigodoy.raytracer.math.Ray;
+import br.com.vinigodoy.raytracer.math.geometry.accel.Traversal;
 import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
-public interface GeometricObject {
+import java.io.Serializable;
+
+public interface GeometricObject extends Serializable {
     float K_EPSILON = 0.1f;
 
     /**
@@ -38,5 +42,48 @@ public interface GeometricObject {
      */
     boolean shadow_hit(Ray ray, FloatRef tmin);
 
+    /**
+     * Same as {@link #shadow_hit(Ray, FloatRef)}, for callers that already hold the traversal state of the ray. Objects
+     * made of other objects override it to pass the state down, rather than looking it up.
+     *
+     * @param ray       The ray test.
+     * @param tmin      Returns the hit distance.
+     * @param traversal Traversal state of the current thread, with its counters.
+     * @return The hit result.
+     */
+    default boolean shadow_hit(Ray ray, FloatRef tmin, Traversal traversal) {
+        return shadow_hit(ray, tmin);
+    }
+
+    /**
+     * Test if the object is hit by the ray closer than the given distance. Used by shadow rays, which only need to know
+     * if something is in the way. Objects made of other objects override it, to pass the traversal state down rather
+     * than looking it up, and to stop at the first hit closer than the distance.
+     *
+     * @param ray       The ray test.
+     * @param tmin      A distance the object may use for its tests. Its value is undefined after the call.
+     * @param d         Maximum distance.
+     * @param traversal Traversal state of the current thread, with its counters.
+     * @return True if the object was hit closer than d.
+     */
+    default boolean shadow_hit(Ray ray, FloatRef tmin, float d, Traversal traversal) {
+        return shadow_hit(ray, tmin) && tmin.value < d;
+    }
+
     Material getMaterial();
+
+    /**
+     * Returns the axis aligned box enclosing this object. Bounded objects can be placed inside acceleration
+     * structures, such as the world bounding volume hierarchy.
+     *
+     * @return The object bounds, or {@link BBox#UNBOUNDED} if the object has an infinite extent.
+     */
+    BBox getBounds();
+
+    /**
+     * Builds the internal acceleration structure of this object, if it has one. Objects shared by several instances
+     * build it only once, so each of them is traversed as a bottom level hierarchy inside the world hierarchy.
+     */
+    default void buildHierarchy() {
+    }
 }
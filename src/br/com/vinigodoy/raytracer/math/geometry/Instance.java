@@ -13,16 +13,37 @@ package br.com.vinigodoy.raytracer.math.geometry;
 
 import br.com.vinigodoy.raytracer.material.Material;
 import br.com.vinigodoy.raytracer.math.Matrix4;
+import br.com.vinigodoy.raytracer.math.BBox;
 import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
+import br.com.vinigodoy.raytracer.math.geometry.accel.Traversal;
+import br.com.vinigodoy.raytracer.stats.RenderStats;
 import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
+/**
+ * A transformed object. The forward and inverse transformations are both kept, and updated together by each
+ * transformation method, so no matrix needs to be inverted while rendering.
+ * <p>
+ * The inverse matrix also works as the normal matrix: {@link Matrix4#transformNormal(Vector3)} multiplies by its
+ * transpose.
+ */
 public class Instance implements GeometricObject {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private GeometricObject object;
     private Material material;
+    private Matrix4 transform = Matrix4.newIdentity();
     private Matrix4 invTransform = Matrix4.newIdentity();
 
+    /**
+     * Type id of the object plus one, to count its hits, or zero if not looked up yet.
+     */
+    private transient int objectType;
+
     public Instance(GeometricObject object) {
         this(object, null);
     }
@@ -34,25 +55,88 @@ public class Instance implements GeometricObject {
 
     public void setObject(GeometricObject object) {
         this.object = object;
+        objectType = 0;
     }
 
     @Override
     public boolean hit(Ray ray, ShadeRec sr, FloatRef tmin) {
-        final var inv_ray = invTransform.transformRay(ray);
-
-        if (object.hit(inv_ray, sr, tmin)) {
-            final var transform = Matrix4.inverse(invTransform);
-            sr.worldHitPoint = transform.transformPoint(sr.worldHitPoint);
-            sr.normal = invTransform.transformNormal(sr.normal);
+        final var traversal = sr.traversal();
+        if (traversal.stats != null) traversal.stats.hit(getObjectType());
+
+        final var frame = traversal.push();
+        try {
+            final var objectRay = frame.ray();
+            final var scale = toObject(ray, objectRay);
+            if (!object.hit(objectRay, sr, tmin)) return false;
+
+            //The object ray direction was normalized, so convert its distance back to world units.
+            tmin.value /= scale;
+            //Objects may give their own normal, so it's transformed into the frame rather than in place
+            sr.worldHitPoint = transform.transformPoint(sr.worldHitPoint, frame.point());
+            sr.normal = invTransform.transformNormal(sr.normal, frame.normal());
             return true;
+        } finally {
+            traversal.pop();
         }
-
-        return false;
     }
 
     @Override
     public boolean shadow_hit(Ray ray, FloatRef tmin) {
-        return object.shadow_hit(invTransform.transformRay(ray), tmin);
+        return shadow_hit(ray, tmin, Traversal.current());
+    }
+
+    @Override
+    public boolean shadow_hit(Ray ray, FloatRef tmin, Traversal traversal) {
+        if (traversal.stats != null) traversal.stats.shadowHit(getObjectType());
+
+        final var frame = traversal.push();
+        try {
+            final var objectRay = frame.ray();
+            final var scale = toObject(ray, objectRay);
+            if (!object.shadow_hit(objectRay, tmin, traversal)) return false;
+
+            tmin.value /= scale;
+            return true;
+        } finally {
+            traversal.pop();
+        }
+    }
+
+    @Override
+    public boolean shadow_hit(Ray ray, FloatRef tmin, float d, Traversal traversal) {
+        if (traversal.stats != null) traversal.stats.shadowHit(getObjectType());
+
+        final var frame = traversal.push();
+        try {
+            final var objectRay = frame.ray();
+            final var scale = toObject(ray, objectRay);
+            return object.shadow_hit(objectRay, tmin, d * scale, traversal);
+        } finally {
+            traversal.pop();
+        }
+    }
+
+    /**
+     * Transforms the ray to object space.
+     *
+     * @param ray       The world ray
+     * @param objectRay Receives the object ray, with a normalized direction.
+     * @return The size of the transformed direction before normalization, to convert object distances back.
+     */
+    private float toObject(Ray ray, Ray objectRay) {
+        final var dir = invTransform.transformDirection(ray.getDirection(), objectRay.getDirection());
+        final var scale = dir.size();
+        dir.divide(scale);
+        invTransform.transformPoint(ray.getOrigin(), objectRay.getOrigin());
+        return scale;
+    }
+
+    /**
+     * @return The type id of the object, looked up once.
+     */
+    private int getObjectType() {
+        if (objectType == 0) objectType = RenderStats.typeId(object.getClass()) + 1;
+        return objectType - 1;
     }
 
     @Override
@@ -60,39 +144,70 @@ public class Instance implements GeometricObject {
         return material != null ? material : object.getMaterial();
     }
 
-    public Instance translate(float x, float y, float z) {
-        invTransform.multiply(Matrix4.newInvTranslation(x, y, z));
+    /**
+     * @return The world space bounds of the transformed object.
+     */
+    @Override
+    public BBox getBounds() {
+        return transform.transformBox(object.getBounds());
+    }
+
+    /**
+     * Builds the hierarchy of the transformed object. Since the instance only transforms the rays, the same object
+     * hierarchy is shared by all instances of it.
+     */
+    @Override
+    public void buildHierarchy() {
+        object.buildHierarchy();
+    }
+
+    /**
+     * Applies a new transformation over the current one.
+     *
+     * @param m    The transformation.
+     * @param invM The inverse of the transformation.
+     * @return This instance.
+     */
+    private Instance apply(Matrix4 m, Matrix4 invM) {
+        transform = Matrix4.multiply(m, transform);
+        invTransform.multiply(invM);
         return this;
     }
 
+    public Instance translate(float x, float y, float z) {
+        return apply(Matrix4.newTranslation(x, y, z), Matrix4.newInvTranslation(x, y, z));
+    }
+
     public Instance translate(Vector3 position) {
-        invTransform.multiply(Matrix4.newInvTranslation(position));
-        return this;
+        return apply(Matrix4.newTranslation(position), Matrix4.newInvTranslation(position));
     }
 
     public Instance rotateX(float angle) {
-        invTransform.multiply(Matrix4.newInvRotationX(angle));
-        return this;
+        return apply(Matrix4.newRotationX(angle), Matrix4.newInvRotationX(angle));
     }
 
     public Instance rotateY(float angle) {
-        invTransform.multiply(Matrix4.newInvRotationY(angle));
-        return this;
+        return apply(Matrix4.newRotationY(angle), Matrix4.newInvRotationY(angle));
     }
 
     public Instance rotateZ(float angle) {
-        invTransform.multiply(Matrix4.newInvRotationZ(angle));
-        return this;
+        return apply(Matrix4.newRotationZ(angle), Matrix4.newInvRotationZ(angle));
     }
 
     public Instance scale(float x, float y, float z) {
-        invTransform.multiply(Matrix4.newInvScale(x, y, z));
-        return this;
+        return apply(Matrix4.newScale(x, y, z), Matrix4.newInvScale(x, y, z));
     }
 
     public Instance scale(float scale) {
-        invTransform.multiply(Matrix4.newInvScale(scale));
-        return this;
+        return apply(Matrix4.newScale(scale), Matrix4.newInvScale(scale));
+    }
+
+    public Matrix4 getTransform() {
+        return transform.clone();
+    }
+
+    public Matrix4 getInvTransform() {
+        return invTransform.clone();
     }
 
     public void setMaterial(Material material) {
@@ -102,6 +217,7 @@ public class Instance implements GeometricObject {
     @Override
     public Instance clone() {
         final var instance = new Instance(object, material.clone());
+        instance.transform = transform.clone();
         instance.invTransform = invTransform.clone();
         return instance;
     }
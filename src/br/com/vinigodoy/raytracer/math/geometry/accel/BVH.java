@@ -0,0 +1,534 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.math.geometry.accel;
+
+import br.com.vinigodoy.raytracer.math.Ray;
+import br.com.vinigodoy.raytracer.stats.Counter;
+import br.com.vinigodoy.raytracer.stats.HierarchyBuildEvent;
+import br.com.vinigodoy.raytracer.stats.ThreadStats;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A bounding volume hierarchy over a set of primitives, identified by their indices.
+ * <p>
+ * The tree is built with the surface area heuristic (SAH) over binned centroids and stored in flat arrays. Each
+ * node uses six floats for its bounds and two ints for its data:
+ * <ul>
+ * <li>Interior nodes store the index of the left child (the right child comes right after it) and a count of 0;</li>
+ * <li>Leaves store the offset of its first primitive in the primitive index array and the primitive count.</li>
+ * </ul>
+ * The hierarchy knows nothing about the primitives themselves. Intersection tests are delegated to an
+ * {@link Intersector}, so the same structure can index world objects, compound children or mesh triangles.
+ */
+public final class BVH implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_LEAF_SIZE = 4;
+    private static final int MAX_DEPTH = 64;
+    private static final int NUM_BINS = 16;
+    private static final float TRAVERSAL_COST = 0.125f;
+
+    /**
+     * Intersects a single primitive of the hierarchy.
+     */
+    @FunctionalInterface
+    public interface Intersector {
+        /**
+         * Test if the given primitive is hit by the ray closer than tMax.
+         *
+         * @param primitive The primitive index, as given to the builder.
+         * @param ray       The ray being traced.
+         * @param tMax      The closest hit distance found so far.
+         * @return The hit distance, or Float.POSITIVE_INFINITY if there is no hit closer than tMax.
+         */
+        float intersect(int primitive, Ray ray, float tMax);
+    }
+
+    /**
+     * Hierarchy statistics, so we can check the structure pays off.
+     *
+     * @param primitives     Number of indexed primitives
+     * @param nodes          Total number of nodes
+     * @param leaves         Number of leaf nodes
+     * @param maxDepth       Depth of the deepest leaf
+     * @param buildTimeNanos Time spent building the hierarchy, in nanoseconds.
+     */
+    public record Stats(int primitives, int nodes, int leaves, int maxDepth, long buildTimeNanos)
+            implements Serializable {
+        @Override
+        public String toString() {
+            return String.format("%d primitives, %d nodes, %d leaves, depth %d, built in %.2fms",
+                    primitives, nodes, leaves, maxDepth, buildTimeNanos / 1_000_000.0);
+        }
+    }
+
+    private final float[] nodeBounds;
+    private final int[] nodeData;
+    private final int[] primitives;
+    private final Stats stats;
+
+    private BVH(float[] nodeBounds, int[] nodeData, int[] primitives, Stats stats) {
+        this.nodeBounds = nodeBounds;
+        this.nodeData = nodeData;
+        this.primitives = primitives;
+        this.stats = stats;
+    }
+
+    /**
+     * Builds a hierarchy over the given primitive bounds.
+     *
+     * @param bounds Primitive bounds, six floats per primitive: x0, y0, z0, x1, y1, z1.
+     * @param count  Number of primitives.
+     * @return The hierarchy.
+     */
+    public static BVH build(float[] bounds, int count) {
+        final var event = new HierarchyBuildEvent();
+        event.begin();
+        final var before = System.nanoTime();
+        final var builder = new Builder(bounds, count);
+        if (count > 0) builder.build(builder.allocate(1), 0, count, 0);
+
+        final var nodes = builder.nodeCount;
+        final var nodeBounds = new float[nodes * 6];
+        final var nodeData = new int[nodes * 2];
+        System.arraycopy(builder.nodeBounds, 0, nodeBounds, 0, nodeBounds.length);
+        System.arraycopy(builder.nodeData, 0, nodeData, 0, nodeData.length);
+
+        final var stats = new Stats(count, nodes, builder.leaves, builder.maxDepth, System.nanoTime() - before);
+        event.commit(count, nodes, builder.leaves, builder.maxDepth);
+        return new BVH(nodeBounds, nodeData, builder.indices, stats);
+    }
+
+    public Stats getStats() {
+        return stats;
+    }
+
+    /**
+     * Finds the closest primitive hit by the ray.
+     *
+     * @param ray         The ray
+     * @param tMax        Maximum hit distance
+     * @param intersector Primitive intersection test
+     * @return The index of the closest primitive hit, or -1 if no primitive was hit.
+     */
+    public int hit(Ray ray, float tMax, Intersector intersector) {
+        return hit(ray, tMax, intersector, Traversal.current());
+    }
+
+    /**
+     * Finds the closest primitive hit by the ray.
+     *
+     * @param ray         The ray
+     * @param tMax        Maximum hit distance
+     * @param intersector Primitive intersection test
+     * @param traversal   Traversal state of the current thread, which holds the node stack.
+     * @return The index of the closest primitive hit, or -1 if no primitive was hit.
+     */
+    public int hit(Ray ray, float tMax, Intersector intersector, Traversal traversal) {
+        if (primitives.length == 0) return -1;
+
+        final var frame = traversal.push();
+        try {
+            return hit(ray, tMax, intersector, traversal.stats, frame);
+        } finally {
+            traversal.pop();
+        }
+    }
+
+    private int hit(Ray ray, float tMax, Intersector intersector, ThreadStats counters, Traversal.Frame frame) {
+        final var ox = ray.getOrigin().getX();
+        final var oy = ray.getOrigin().getY();
+        final var oz = ray.getOrigin().getZ();
+        final var ix = 1.0f / ray.getDirection().getX();
+        final var iy = 1.0f / ray.getDirection().getY();
+        final var iz = 1.0f / ray.getDirection().getZ();
+
+        final var nodeStack = frame.nodes(stats.maxDepth() + 1);
+        final var distStack = frame.distances(stats.maxDepth() + 1);
+        var sp = 0;
+
+        var closest = -1;
+        var node = 0;
+        if (enter(0, ox, oy, oz, ix, iy, iz, tMax) == Float.POSITIVE_INFINITY) {
+            countBoxes(counters, 1, 1);
+            return -1;
+        }
+
+        //Box tests are counted locally, and added to the statistics once
+        var tests = 1;
+        var rejections = 0;
+
+        while (true) {
+            final var offset = nodeData[node * 2];
+            final var count = nodeData[node * 2 + 1];
+
+            if (count > 0) {
+                for (var i = offset; i < offset + count; i++) {
+                    final var t = intersector.intersect(primitives[i], ray, tMax);
+                    if (t < tMax) {
+                        tMax = t;
+                        closest = primitives[i];
+                    }
+                }
+            } else {
+                final var tLeft = enter(offset, ox, oy, oz, ix, iy, iz, tMax);
+                final var tRight = enter(offset + 1, ox, oy, oz, ix, iy, iz, tMax);
+                tests += 2;
+                if (tLeft == Float.POSITIVE_INFINITY) rejections++;
+                if (tRight == Float.POSITIVE_INFINITY) rejections++;
+
+                if (tLeft != Float.POSITIVE_INFINITY && tRight != Float.POSITIVE_INFINITY) {
+                    //Visit the nearest child first, and come back to the other one later.
+                    final var near = tLeft <= tRight ? offset : offset + 1;
+                    nodeStack[sp] = near == offset ? offset + 1 : offset;
+                    distStack[sp++] = Math.max(tLeft, tRight);
+                    node = near;
+                    continue;
+                }
+                if (tLeft != Float.POSITIVE_INFINITY) {
+                    node = offset;
+                    continue;
+                }
+                if (tRight != Float.POSITIVE_INFINITY) {
+                    node = offset + 1;
+                    continue;
+                }
+            }
+
+            //Pop the next node, skipping the ones farther than the closest hit found so far.
+            do {
+                if (sp == 0) {
+                    countBoxes(counters, tests, rejections);
+                    return closest;
+                }
+                node = nodeStack[--sp];
+            } while (distStack[sp] > tMax);
+        }
+    }
+
+    /**
+     * Test if any primitive is hit by the ray closer than tMax. Traversal stops at the first hit found.
+     *
+     * @param ray         The ray
+     * @param tMax        Maximum hit distance
+     * @param intersector Primitive intersection test
+     * @return True if some primitive was hit.
+     */
+    public boolean shadowHit(Ray ray, float tMax, Intersector intersector) {
+        return shadowHit(ray, tMax, intersector, Traversal.current());
+    }
+
+    /**
+     * Test if any primitive is hit by the ray closer than tMax. Traversal stops at the first hit found.
+     *
+     * @param ray         The ray
+     * @param tMax        Maximum hit distance
+     * @param intersector Primitive intersection test
+     * @param traversal   Traversal state of the current thread, which holds the node stack.
+     * @return True if some primitive was hit.
+     */
+    public boolean shadowHit(Ray ray, float tMax, Intersector intersector, Traversal traversal) {
+        if (primitives.length == 0) return false;
+
+        final var frame = traversal.push();
+        try {
+            return shadowHit(ray, tMax, intersector, traversal.stats, frame);
+        } finally {
+            traversal.pop();
+        }
+    }
+
+    private boolean shadowHit(Ray ray, float tMax, Intersector intersector, ThreadStats counters,
+                              Traversal.Frame frame) {
+        final var ox = ray.getOrigin().getX();
+        final var oy = ray.getOrigin().getY();
+        final var oz = ray.getOrigin().getZ();
+        final var ix = 1.0f / ray.getDirection().getX();
+        final var iy = 1.0f / ray.getDirection().getY();
+        final var iz = 1.0f / ray.getDirection().getZ();
+
+        final var nodeStack = frame.nodes(stats.maxDepth() + 1);
+        var sp = 0;
+        nodeStack[sp++] = 0;
+
+        var tests = 0;
+        var rejections = 0;
+        while (sp > 0) {
+            final var node = nodeStack[--sp];
+            tests++;
+            if (enter(node, ox, oy, oz, ix, iy, iz, tMax) == Float.POSITIVE_INFINITY) {
+                rejections++;
+                continue;
+            }
+
+            final var offset = nodeData[node * 2];
+            final var count = nodeData[node * 2 + 1];
+            if (count == 0) {
+                nodeStack[sp++] = offset + 1;
+                nodeStack[sp++] = offset;
+                continue;
+            }
+
+            for (var i = offset; i < offset + count; i++) {
+                if (intersector.intersect(primitives[i], ray, tMax) < tMax) {
+                    countBoxes(counters, tests, rejections);
+                    return true;
+                }
+            }
+        }
+        countBoxes(counters, tests, rejections);
+        return false;
+    }
+
+    private static void countBoxes(ThreadStats counters, int tests, int rejections) {
+        if (counters == null) return;
+        counters.count(Counter.BBOX_TESTS, tests);
+        counters.count(Counter.BBOX_REJECTIONS, rejections);
+    }
+
+    /**
+     * Slab test against a node box.
+     *
+     * @return The distance the ray enters the node, or Float.POSITIVE_INFINITY if it misses the node or enters it
+     * farther than tMax. NaN produced by rays parallel to a slab are ignored, so the test stays conservative.
+     */
+    private float enter(int node, float ox, float oy, float oz, float ix, float iy, float iz, float tMax) {
+        final var b = node * 6;
+        var tNear = 0.0f;
+        var tFar = tMax;
+
+        var t0 = (nodeBounds[b] - ox) * ix;
+        var t1 = (nodeBounds[b + 3] - ox) * ix;
+        if (t0 > t1) {
+            final var aux = t0;
+            t0 = t1;
+            t1 = aux;
+        }
+        if (t0 > tNear) tNear = t0;
+        if (t1 < tFar) tFar = t1;
+
+        t0 = (nodeBounds[b + 1] - oy) * iy;
+        t1 = (nodeBounds[b + 4] - oy) * iy;
+        if (t0 > t1) {
+            final var aux = t0;
+            t0 = t1;
+            t1 = aux;
+        }
+        if (t0 > tNear) tNear = t0;
+        if (t1 < tFar) tFar = t1;
+
+        t0 = (nodeBounds[b + 2] - oz) * iz;
+        t1 = (nodeBounds[b + 5] - oz) * iz;
+        if (t0 > t1) {
+            final var aux = t0;
+            t0 = t1;
+            t1 = aux;
+        }
+        if (t0 > tNear) tNear = t0;
+        if (t1 < tFar) tFar = t1;
+
+        return tNear <= tFar ? tNear : Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Binned SAH builder. Node arrays grow as needed and are trimmed by {@link BVH#build(float[], int)}.
+     */
+    private static final class Builder {
+        private final float[] bounds;
+        private final float[] centroids;
+        private final int[] indices;
+
+        private float[] nodeBounds;
+        private int[] nodeData;
+        private int nodeCount = 0;
+        private int leaves = 0;
+        private int maxDepth = 0;
+
+        private final int[] binCounts = new int[NUM_BINS];
+        private final float[] binBounds = new float[NUM_BINS * 6];
+        private final float[] rightAreas = new float[NUM_BINS];
+
+        private Builder(float[] bounds, int count) {
+            this.bounds = bounds;
+            this.centroids = new float[count * 3];
+            this.indices = new int[count];
+            for (var i = 0; i < count; i++) {
+                indices[i] = i;
+                for (var axis = 0; axis < 3; axis++)
+                    centroids[i * 3 + axis] = (bounds[i * 6 + axis] + bounds[i * 6 + axis + 3]) * 0.5f;
+            }
+
+            final var capacity = Math.max(1, 2 * count / MAX_LEAF_SIZE + 1);
+            nodeBounds = new float[capacity * 6];
+            nodeData = new int[capacity * 2];
+        }
+
+        private int allocate(int count) {
+            final var first = nodeCount;
+            nodeCount += count;
+            if (nodeCount * 2 > nodeData.length) {
+                //Doubles the node capacity
+                final var capacity = Math.max(nodeCount, nodeData.length);
+                nodeBounds = Arrays.copyOf(nodeBounds, capacity * 6);
+                nodeData = Arrays.copyOf(nodeData, capacity * 2);
+            }
+            return first;
+        }
+
+        private void build(int node, int start, int end, int depth) {
+            maxDepth = Math.max(maxDepth, depth);
+
+            //Node bounds and centroid bounds
+            final var b = node * 6;
+            reset(nodeBounds, b);
+            final var cb = new float[6];
+            reset(cb, 0);
+            for (var i = start; i < end; i++) {
+                final var p = indices[i];
+                for (var axis = 0; axis < 3; axis++) {
+                    nodeBounds[b + axis] = Math.min(nodeBounds[b + axis], bounds[p * 6 + axis]);
+                    nodeBounds[b + axis + 3] = Math.max(nodeBounds[b + axis + 3], bounds[p * 6 + axis + 3]);
+                    cb[axis] = Math.min(cb[axis], centroids[p * 3 + axis]);
+                    cb[axis + 3] = Math.max(cb[axis + 3], centroids[p * 3 + axis]);
+                }
+            }
+
+            final var count = end - start;
+            if (count <= 1) {
+                makeLeaf(node, start, count);
+                return;
+            }
+
+            //Find the cheapest split among all axes
+            var bestAxis = -1;
+            var bestBin = -1;
+            var bestCost = Float.POSITIVE_INFINITY;
+
+            for (var axis = 0; axis < 3; axis++) {
+                final var extent = cb[axis + 3] - cb[axis];
+                if (extent <= 0) continue;
+
+                Arrays.fill(binCounts, 0);
+                for (var bin = 0; bin < NUM_BINS; bin++)
+                    reset(binBounds, bin * 6);
+
+                final var scale = NUM_BINS / extent;
+                for (var i = start; i < end; i++) {
+                    final var p = indices[i];
+                    final var bin = binOf(centroids[p * 3 + axis], cb[axis], scale);
+                    binCounts[bin]++;
+                    grow(binBounds, bin * 6, bounds, p * 6);
+                }
+
+                //Sweep from the right, storing the area of every right side
+                final var acc = new float[6];
+                reset(acc, 0);
+                for (var bin = NUM_BINS - 1; bin > 0; bin--) {
+                    grow(acc, 0, binBounds, bin * 6);
+                    rightAreas[bin] = area(acc, 0);
+                }
+
+                //Then from the left, evaluating every split plane
+                reset(acc, 0);
+                var leftCount = 0;
+                for (var bin = 0; bin < NUM_BINS - 1; bin++) {
+                    grow(acc, 0, binBounds, bin * 6);
+                    leftCount += binCounts[bin];
+                    final var rightCount = count - leftCount;
+                    if (leftCount == 0 || rightCount == 0) continue;
+
+                    final var cost = leftCount * area(acc, 0) + rightCount * rightAreas[bin + 1];
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        bestAxis = axis;
+                        bestBin = bin;
+                    }
+                }
+            }
+
+            final var nodeArea = area(nodeBounds, b);
+            final var leafCost = count;
+            final var splitCost = nodeArea > 0 ? TRAVERSAL_COST + bestCost / nodeArea : bestCost;
+
+            int mid;
+            if (bestAxis == -1 || depth >= MAX_DEPTH) {
+                //All centroids are at the same spot (or the tree is too deep). Any split is as good as other.
+                if (count <= MAX_LEAF_SIZE) {
+                    makeLeaf(node, start, count);
+                    return;
+                }
+                mid = start + count / 2;
+            } else {
+                if (count <= MAX_LEAF_SIZE && splitCost >= leafCost) {
+                    makeLeaf(node, start, count);
+                    return;
+                }
+                mid = partition(start, end, bestAxis, bestBin, cb[bestAxis], NUM_BINS / (cb[bestAxis + 3] - cb[bestAxis]));
+            }
+
+            final var left = allocate(2);
+            nodeData[node * 2] = left;
+            nodeData[node * 2 + 1] = 0;
+            build(left, start, mid, depth + 1);
+            build(left + 1, mid, end, depth + 1);
+        }
+
+        private int partition(int start, int end, int axis, int splitBin, float min, float scale) {
+            var i = start;
+            var j = end - 1;
+            while (i <= j) {
+                if (binOf(centroids[indices[i] * 3 + axis], min, scale) <= splitBin) {
+                    i++;
+                } else {
+                    final var aux = indices[i];
+                    indices[i] = indices[j];
+                    indices[j--] = aux;
+                }
+            }
+            return i;
+        }
+
+        private void makeLeaf(int node, int start, int count) {
+            nodeData[node * 2] = start;
+            nodeData[node * 2 + 1] = count;
+            leaves++;
+        }
+
+        private static int binOf(float centroid, float min, float scale) {
+            return Math.min(NUM_BINS - 1, (int) ((centroid - min) * scale));
+        }
+
+        private static void reset(float[] box, int b) {
+            box[b] = box[b + 1] = box[b + 2] = Float.POSITIVE_INFINITY;
+            box[b + 3] = box[b + 4] = box[b + 5] = Float.NEGATIVE_INFINITY;
+        }
+
+        private static void grow(float[] box, int b, float[] other, int o) {
+            for (var axis = 0; axis < 3; axis++) {
+                box[b + axis] = Math.min(box[b + axis], other[o + axis]);
+                box[b + axis + 3] = Math.max(box[b + axis + 3], other[o + axis + 3]);
+            }
+        }
+
+        private static float area(float[] box, int b) {
+            final var dx = box[b + 3] - box[b];
+            final var dy = box[b + 4] - box[b + 1];
+            final var dz = box[b + 5] - box[b + 2];
+            if (dx < 0 || dy < 0 || dz < 0) return 0;
+            return 2.0f * (dx * dy + dy * dz + dz * dx);
+        }
+    }
+}
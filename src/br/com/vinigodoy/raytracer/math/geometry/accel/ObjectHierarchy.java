@@ -0,0 +1,307 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.math.geometry.accel;
+
+import br.com.vinigodoy.raytracer.math.Ray;
+import br.com.vinigodoy.raytracer.math.Vector3;
+import br.com.vinigodoy.raytracer.math.geometry.GeometricObject;
+import br.com.vinigodoy.raytracer.stats.RenderStats;
+import br.com.vinigodoy.raytracer.stats.ThreadStats;
+import br.com.vinigodoy.raytracer.utility.FloatRef;
+import br.com.vinigodoy.raytracer.utility.ShadeRec;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A bounding volume hierarchy over geometric objects. Unbounded objects (such as planes) can't be placed in the
+ * hierarchy, so they are kept aside and tested one by one.
+ */
+public class ObjectHierarchy implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Small padding added to every object box, so flat objects (disks, rectangles) still have some volume.
+     */
+    private static final float PADDING = 1e-3f;
+
+    private final GeometricObject[] bounded;
+    private final GeometricObject[] unbounded;
+    private final BVH bvh;
+
+    /**
+     * Type ids of the bounded objects, followed by the unbounded ones, to count their hits. Built on first use.
+     */
+    private transient volatile int[] typeIds;
+
+    public ObjectHierarchy(List<GeometricObject> objects) {
+        final var withBounds = new ArrayList<GeometricObject>(objects.size());
+        final var withoutBounds = new ArrayList<GeometricObject>();
+        for (var obj : objects) {
+            if (obj.getBounds().isBounded()) withBounds.add(obj);
+            else withoutBounds.add(obj);
+        }
+
+        bounded = withBounds.toArray(new GeometricObject[0]);
+        unbounded = withoutBounds.toArray(new GeometricObject[0]);
+
+        final var boxes = new float[bounded.length * 6];
+        for (var i = 0; i < bounded.length; i++) {
+            final var box = bounded[i].getBounds();
+            boxes[i * 6] = box.getX0() - PADDING;
+            boxes[i * 6 + 1] = box.getY0() - PADDING;
+            boxes[i * 6 + 2] = box.getZ0() - PADDING;
+            boxes[i * 6 + 3] = box.getX1() + PADDING;
+            boxes[i * 6 + 4] = box.getY1() + PADDING;
+            boxes[i * 6 + 5] = box.getZ1() + PADDING;
+        }
+        bvh = BVH.build(boxes, bounded.length);
+    }
+
+    /**
+     * Finds the closest object hit by the ray. The shade rec is filled with the hit point and normal of that object.
+     *
+     * @param ray  The ray
+     * @param sr   The shade rec to fill
+     * @param tmin Returns the hit distance.
+     * @return The object hit, or null if no object was hit.
+     */
+    public GeometricObject hit(Ray ray, ShadeRec sr, FloatRef tmin) {
+        final var traversal = sr.traversal();
+        final var frame = traversal.push();
+        try {
+            if (frame.closestHit == null) frame.closestHit = new ClosestHit();
+            return frame.closestHit.find(this, ray, sr, tmin, traversal);
+        } finally {
+            traversal.pop();
+        }
+    }
+
+    /**
+     * Test if any object is hit by the ray closer than the given distance.
+     *
+     * @param ray       The ray
+     * @param d         Maximum distance
+     * @param traversal Traversal state of the current thread.
+     * @return True if some object was hit.
+     */
+    public boolean shadowHit(Ray ray, float d, Traversal traversal) {
+        final var frame = traversal.push();
+        try {
+            if (frame.anyHit == null) frame.anyHit = new AnyHit();
+            return frame.anyHit.find(this, ray, d, traversal);
+        } finally {
+            traversal.pop();
+        }
+    }
+
+    /**
+     * Finds the distance to the closest object hit by the ray, without shading information. Used by objects that
+     * keep their own hierarchy, since their callers compare the returned distance against their own limits.
+     *
+     * @param ray       The ray
+     * @param tmin      Returns the hit distance.
+     * @param traversal Traversal state of the current thread.
+     * @return True if some object was hit.
+     */
+    public boolean shadowHit(Ray ray, FloatRef tmin, Traversal traversal) {
+        final var frame = traversal.push();
+        try {
+            if (frame.closestDistance == null) frame.closestDistance = new ClosestDistance();
+            return frame.closestDistance.find(this, ray, tmin, traversal);
+        } finally {
+            traversal.pop();
+        }
+    }
+
+    private int[] typeIds() {
+        var ids = typeIds;
+        if (ids == null) {
+            final var objects = Arrays.copyOf(bounded, bounded.length + unbounded.length);
+            System.arraycopy(unbounded, 0, objects, bounded.length, unbounded.length);
+            typeIds = ids = RenderStats.typeIds(objects);
+        }
+        return ids;
+    }
+
+    public BVH.Stats getStats() {
+        return bvh.getStats();
+    }
+
+    /**
+     * Number of objects tested linearly, outside the hierarchy.
+     */
+    public int getUnboundedCount() {
+        return unbounded.length;
+    }
+
+    /**
+     * Keeps the shading information of the closest hit found so far. Kept by the traversal frames, so it is reused by
+     * every ray of the thread and refers to the hierarchy only during a search.
+     */
+    static final class ClosestHit implements BVH.Intersector {
+        private final FloatRef fr = new FloatRef();
+        private GeometricObject[] objects;
+        private int[] types;
+        private ThreadStats stats;
+        private ShadeRec sr;
+
+        private GeometricObject object;
+        private float t;
+        private Vector3 localHitPoint;
+
+        /**
+         * Copies of the closest hit point and normal, since the objects tested after it may reuse theirs.
+         */
+        private final Vector3 normal = new Vector3();
+        private final Vector3 worldHitPoint = new Vector3();
+
+        private GeometricObject find(ObjectHierarchy hierarchy, Ray ray, ShadeRec sr, FloatRef tmin,
+                                     Traversal traversal) {
+            objects = hierarchy.bounded;
+            stats = traversal.stats;
+            types = stats == null ? null : hierarchy.typeIds();
+            this.sr = sr;
+            object = null;
+
+            var tMax = Float.MAX_VALUE;
+            if (hierarchy.bvh.hit(ray, tMax, this, traversal) != -1)
+                tMax = t;
+
+            final var unbounded = hierarchy.unbounded;
+            for (var i = 0; i < unbounded.length; i++) {
+                if (test(objects.length + i, unbounded[i], ray, tMax) < tMax)
+                    tMax = t;
+            }
+
+            final var closest = object;
+            if (closest != null) {
+                tmin.value = t;
+                sr.normal = normal;
+                sr.worldHitPoint = worldHitPoint;
+                sr.localHitPoint = localHitPoint;
+            }
+
+            objects = null;
+            this.sr = null;
+            object = null;
+            localHitPoint = null;
+            return closest;
+        }
+
+        @Override
+        public float intersect(int primitive, Ray ray, float tMax) {
+            return test(primitive, objects[primitive], ray, tMax);
+        }
+
+        /**
+         * @param index Index of the object in the bounded objects, followed by the unbounded ones.
+         */
+        private float test(int index, GeometricObject obj, Ray ray, float tMax) {
+            if (stats != null) stats.hit(types[index]);
+            if (!obj.hit(ray, sr, fr) || fr.value >= tMax)
+                return Float.POSITIVE_INFINITY;
+
+            object = obj;
+            t = fr.value;
+            normal.set(sr.normal);
+            worldHitPoint.set(sr.worldHitPoint);
+            localHitPoint = sr.localHitPoint;
+            return t;
+        }
+    }
+
+    /**
+     * Stops at the first object hit closer than the maximum distance.
+     */
+    static final class AnyHit implements BVH.Intersector {
+        private final FloatRef t = new FloatRef();
+        private GeometricObject[] objects;
+        private int[] types;
+        private ThreadStats stats;
+        private Traversal traversal;
+
+        private boolean find(ObjectHierarchy hierarchy, Ray ray, float d, Traversal traversal) {
+            objects = hierarchy.bounded;
+            stats = traversal.stats;
+            types = stats == null ? null : hierarchy.typeIds();
+            try {
+                final var unbounded = hierarchy.unbounded;
+                for (var i = 0; i < unbounded.length; i++) {
+                    if (stats != null) stats.shadowHit(types[objects.length + i]);
+                    if (unbounded[i].shadow_hit(ray, t, d, traversal)) return true;
+                }
+                this.traversal = traversal;
+                return hierarchy.bvh.shadowHit(ray, d, this, traversal);
+            } finally {
+                objects = null;
+                this.traversal = null;
+            }
+        }
+
+        @Override
+        public float intersect(int primitive, Ray ray, float tMax) {
+            if (stats != null) stats.shadowHit(types[primitive]);
+            //Any hit closer than tMax stops the traversal, so its exact distance doesn't matter
+            return objects[primitive].shadow_hit(ray, t, tMax, traversal) ? 0 : Float.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * Keeps the distance of the closest hit found so far.
+     */
+    static final class ClosestDistance implements BVH.Intersector {
+        private final FloatRef t = new FloatRef();
+        private GeometricObject[] objects;
+        private int[] types;
+        private ThreadStats stats;
+        private Traversal traversal;
+        private float closest;
+
+        private boolean find(ObjectHierarchy hierarchy, Ray ray, FloatRef tmin, Traversal traversal) {
+            objects = hierarchy.bounded;
+            stats = traversal.stats;
+            types = stats == null ? null : hierarchy.typeIds();
+            closest = Float.MAX_VALUE;
+            this.traversal = traversal;
+
+            try {
+                hierarchy.bvh.hit(ray, Float.MAX_VALUE, this, traversal);
+
+                final var unbounded = hierarchy.unbounded;
+                for (var i = 0; i < unbounded.length; i++) {
+                    if (stats != null) stats.shadowHit(types[objects.length + i]);
+                    if (unbounded[i].shadow_hit(ray, t, traversal) && t.value < closest) closest = t.value;
+                }
+            } finally {
+                objects = null;
+                this.traversal = null;
+            }
+
+            if (closest == Float.MAX_VALUE) return false;
+            tmin.value = closest;
+            return true;
+        }
+
+        @Override
+        public float intersect(int primitive, Ray ray, float tMax) {
+            if (stats != null) stats.shadowHit(types[primitive]);
+            if (!objects[primitive].shadow_hit(ray, t, traversal) || t.value >= tMax) return Float.POSITIVE_INFINITY;
+            closest = t.value;
+            return t.value;
+        }
+    }
+}
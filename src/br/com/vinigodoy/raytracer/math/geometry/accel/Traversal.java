@@ -0,0 +1,155 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.math.geometry.accel;
+
+import br.com.vinigodoy.raytracer.math.Ray;
+import br.com.vinigodoy.raytracer.math.Vector3;
+import br.com.vinigodoy.raytracer.stats.RenderStats;
+import br.com.vinigodoy.raytracer.stats.ThreadStats;
+import br.com.vinigodoy.raytracer.utility.FloatRef;
+
+import java.util.Arrays;
+
+/**
+ * Per thread state of the ray being traced: the statistics counters, and the buffers used to find its hits, so the
+ * hierarchies can be traversed without allocating.
+ * <p>
+ * Traversals nest: the world hierarchy reaches compound and mesh hierarchies, and instances trace their own ray through
+ * the object inside them. So each nesting level takes its own {@link Frame}, kept from ray to ray. A traversal belongs
+ * to a single thread and must never be shared.
+ */
+public final class Traversal {
+    private static final ThreadLocal<Traversal> CURRENT = ThreadLocal.withInitial(Traversal::new);
+
+    /**
+     * Counters of the thread, or null if the statistics are disabled.
+     */
+    public ThreadStats stats;
+
+    /**
+     * Counters of the thread, looked up once. A live thread keeps the same counters, even across resets.
+     */
+    private ThreadStats counters;
+
+    /**
+     * Samples, rays and shadow rays traced by the thread. Always counted, with plain increments, so the renderers can
+     * report the work of each tile without turning the statistics on.
+     */
+    public long samples, rays, shadowRays;
+
+    private Frame[] frames = new Frame[8];
+    private int level = 0;
+
+    private Traversal() {
+    }
+
+    /**
+     * @return The traversal of the current thread, with its counters updated.
+     */
+    public static Traversal current() {
+        final var traversal = CURRENT.get();
+        traversal.stats = RenderStats.isEnabled() ? traversal.counters() : null;
+        return traversal;
+    }
+
+    private ThreadStats counters() {
+        if (counters == null) counters = RenderStats.current();
+        return counters;
+    }
+
+    /**
+     * Enters the next nesting level. Every call must be paired with a call to {@link #pop()}, even if the traversal
+     * fails.
+     *
+     * @return The frame of that level. Its contents are left by the last traversal at this level.
+     */
+    public Frame push() {
+        if (level == frames.length) frames = Arrays.copyOf(frames, level * 2);
+        var frame = frames[level];
+        if (frame == null) {
+            frame = new Frame();
+            frames[level] = frame;
+        }
+        level++;
+        return frame;
+    }
+
+    /**
+     * Leaves the current nesting level.
+     */
+    public void pop() {
+        level--;
+    }
+
+    /**
+     * Buffers of one nesting level.
+     */
+    public static final class Frame {
+        private final FloatRef t = new FloatRef();
+        private Ray ray;
+        private Vector3 point;
+        private Vector3 normal;
+
+        private int[] nodes = new int[0];
+        private float[] distances = new float[0];
+
+        ObjectHierarchy.ClosestHit closestHit;
+        ObjectHierarchy.AnyHit anyHit;
+        ObjectHierarchy.ClosestDistance closestDistance;
+
+        private Frame() {
+        }
+
+        /**
+         * @return A distance, for hit tests of this level.
+         */
+        public FloatRef t() {
+            return t;
+        }
+
+        /**
+         * @return A ray, for objects that trace a ray of their own. Its origin and direction are changed in place, and
+         * the direction must be kept normalized.
+         */
+        public Ray ray() {
+            if (ray == null) ray = new Ray(new Vector3(), new Vector3(0, 0, 1));
+            return ray;
+        }
+
+        /**
+         * @return A hit point, for objects that combine or transform the hits of the objects inside them. Whoever
+         * receives it must copy it before another traversal at this level, such as the one of the next object.
+         */
+        public Vector3 point() {
+            if (point == null) point = new Vector3();
+            return point;
+        }
+
+        /**
+         * @return A normal, kept as the {@link #point()}.
+         */
+        public Vector3 normal() {
+            if (normal == null) normal = new Vector3();
+            return normal;
+        }
+
+        int[] nodes(int size) {
+            if (nodes.length < size) nodes = new int[size];
+            return nodes;
+        }
+
+        float[] distances(int size) {
+            if (distances.length < size) distances = new float[size];
+            return distances;
+        }
+    }
+}
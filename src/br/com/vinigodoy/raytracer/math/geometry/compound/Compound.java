@@ -18,18 +18,49 @@ import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.math.geometry.GeometricObject;
 import br.com.vinigodoy.raytracer.math.geometry.Instance;
+import br.com.vinigodoy.raytracer.math.geometry.accel.ObjectHierarchy;
+import br.com.vinigodoy.raytracer.math.geometry.accel.Traversal;
+import br.com.vinigodoy.raytracer.stats.RenderStats;
 import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * A group of objects, treated as a single one. Compounds with a few children are tested one child at a time; bigger
+ * ones build a hierarchy over their children the first time they're hit, so they're traversed in logarithmic time.
+ */
 public class Compound implements GeometricObject {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Minimum number of children for a hierarchy to be built. Below that, a linear search is faster.
+     */
+    private static final int HIERARCHY_THRESHOLD = 4;
+
     private final List<GeometricObject> objects = new ArrayList<>();
     private BBox bounds;
 
+    /**
+     * Union of the children bounds, and the hierarchy over them. Built on first use, and left out of the serialized
+     * compound, so it's stored the same whether it was rendered or not.
+     */
+    private transient volatile BBox childrenBounds;
+    private transient volatile ObjectHierarchy hierarchy;
+
+    /**
+     * Type ids of the children, to count their hits. Built on first use.
+     */
+    private transient volatile int[] typeIds;
+
     public Compound add(GeometricObject obj) {
         objects.add(obj);
+        childrenBounds = null;
+        hierarchy = null;
+        typeIds = null;
         return this;
     }
     
@@ -40,60 +71,84 @@ public class Compound implements GeometricObject {
 
     public Instance addInstance(GeometricObject obj) {
         final var instance = new Instance(obj);
-        objects.add(instance);
+        add(instance);
         return instance;
     }
 
     public Instance addInstance(GeometricObject obj, Material mtrl) {
         final var instance = new Instance(obj, mtrl);
-        objects.add(instance);
+        add(instance);
         return instance;
     }
 
     @Override
     public boolean hit(Ray ray, ShadeRec sr, FloatRef tmin) {
-        if (bounds != null && !bounds.hit(ray))
+        final var traversal = sr.traversal();
+        final var stats = traversal.stats;
+        if (bounds != null && !bounds.hit(ray, stats))
             return false;
 
-        Vector3 normal = null;
-        Vector3 worldHitPoint = null;
-        Vector3 localHitPoint = null;
-        var tMin = Float.MAX_VALUE;
-        var hit = false;
-
-        for (var obj : objects) {
-            final var fr = new FloatRef();
-            if (obj.hit(ray, sr, fr) && fr.value < tMin) {
-                hit = true;
-                tMin = fr.value;
-                //sr.material = obj.getMaterial();
-                normal = sr.normal;
-                worldHitPoint = sr.worldHitPoint;
-                localHitPoint = sr.localHitPoint;
+        final var hierarchy = getHierarchy();
+        if (hierarchy != null) return hierarchy.hit(ray, sr, tmin) != null;
+
+        //Children may reuse their hit point and normal for the next child, so the closest ones are copied to the frame
+        final var frame = traversal.push();
+        try {
+            final var normal = frame.normal();
+            final var worldHitPoint = frame.point();
+            Vector3 localHitPoint = null;
+            var tMin = Float.MAX_VALUE;
+            var hit = false;
+
+            //tmin is only read by the caller if something was hit, so it can hold each child distance meanwhile
+            final var types = stats == null ? null : getTypeIds();
+            for (var i = 0; i < objects.size(); i++) {
+                final var obj = objects.get(i);
+                if (stats != null) stats.hit(types[i]);
+                if (obj.hit(ray, sr, tmin) && tmin.value < tMin) {
+                    hit = true;
+                    tMin = tmin.value;
+                    //sr.material = obj.getMaterial();
+                    normal.set(sr.normal);
+                    worldHitPoint.set(sr.worldHitPoint);
+                    localHitPoint = sr.localHitPoint;
+                }
             }
-        }
 
-        if (hit) {
-            tmin.value = tMin;
-            sr.normal = normal;
-            sr.worldHitPoint = worldHitPoint;
-            sr.localHitPoint = localHitPoint;
+            if (hit) {
+                tmin.value = tMin;
+                sr.normal = normal;
+                sr.worldHitPoint = worldHitPoint;
+                sr.localHitPoint = localHitPoint;
+            }
+            return hit;
+        } finally {
+            traversal.pop();
         }
-        return hit;
     }
 
     @Override
     public boolean shadow_hit(Ray ray, FloatRef tmin) {
-        if (bounds != null && !bounds.hit(ray)) return false;
+        return shadow_hit(ray, tmin, Traversal.current());
+    }
+
+    @Override
+    public boolean shadow_hit(Ray ray, FloatRef tmin, Traversal traversal) {
+        final var stats = traversal.stats;
+        if (bounds != null && !bounds.hit(ray, stats)) return false;
+
+        final var hierarchy = getHierarchy();
+        if (hierarchy != null) return hierarchy.shadowHit(ray, tmin, traversal);
 
         var tMin = Float.MAX_VALUE;
         var hit = false;
 
-        for (var obj : objects) {
-            final var fr = new FloatRef();
-            if (obj.shadow_hit(ray, fr) && fr.value < tMin) {
+        final var types = stats == null ? null : getTypeIds();
+        for (var i = 0; i < objects.size(); i++) {
+            if (stats != null) stats.shadowHit(types[i]);
+            if (objects.get(i).shadow_hit(ray, tmin, traversal) && tmin.value < tMin) {
                 hit = true;
-                tMin = fr.value;
+                tMin = tmin.value;
             }
         }
 
@@ -102,6 +157,63 @@ public class Compound implements GeometricObject {
         return hit;
     }
 
+    @Override
+    public boolean shadow_hit(Ray ray, FloatRef tmin, float d, Traversal traversal) {
+        final var stats = traversal.stats;
+        if (bounds != null && !bounds.hit(ray, stats)) return false;
+
+        final var hierarchy = getHierarchy();
+        if (hierarchy != null) return hierarchy.shadowHit(ray, d, traversal);
+
+        final var types = stats == null ? null : getTypeIds();
+        for (var i = 0; i < objects.size(); i++) {
+            if (stats != null) stats.shadowHit(types[i]);
+            if (objects.get(i).shadow_hit(ray, tmin, d, traversal)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Builds the hierarchy of the children, and then a hierarchy over them. Compounds added to the world through
+     * several instances are built only once. Adding new children discards the hierarchy.
+     */
+    @Override
+    public void buildHierarchy() {
+        if (getHierarchy() == null) {
+            for (var obj : objects) obj.buildHierarchy();
+        }
+    }
+
+    /**
+     * Returns the hierarchy over the children, building it if necessary. Several render threads may hit the compound
+     * at once, so the hierarchy is built by only one of them.
+     *
+     * @return The hierarchy, or null if the compound is too small to have one.
+     */
+    private ObjectHierarchy getHierarchy() {
+        var hierarchy = this.hierarchy;
+        if (hierarchy != null || objects.size() < HIERARCHY_THRESHOLD) return hierarchy;
+
+        synchronized (this) {
+            hierarchy = this.hierarchy;
+            if (hierarchy == null) {
+                for (var obj : objects) obj.buildHierarchy();
+                hierarchy = new ObjectHierarchy(objects);
+                this.hierarchy = hierarchy;
+            }
+        }
+        return hierarchy;
+    }
+
+    private int[] getTypeIds() {
+        var ids = typeIds;
+        if (ids == null) {
+            ids = RenderStats.typeIds(objects.toArray());
+            typeIds = ids;
+        }
+        return ids;
+    }
+
     @Override
     public Material getMaterial() {
         return objects.get(0).getMaterial();
@@ -111,7 +223,29 @@ public class Compound implements GeometricObject {
         this.bounds = bounds;
     }
 
+    /**
+     * @return The bounds given by {@link #setBounds(BBox)} or, if none was given, the union of all children bounds.
+     * The union is computed once, and discarded when a new child is added.
+     */
+    @Override
     public BBox getBounds() {
-        return bounds;
+        if (bounds != null) return bounds;
+
+        var union = childrenBounds;
+        if (union == null) {
+            union = computeBounds();
+            childrenBounds = union;
+        }
+        return union;
+    }
+
+    private BBox computeBounds() {
+        BBox union = null;
+        for (var obj : objects) {
+            final var objBounds = obj.getBounds();
+            if (!objBounds.isBounded()) return BBox.UNBOUNDED;
+            union = union == null ? objBounds : BBox.union(union, objBounds);
+        }
+        return union == null ? BBox.UNBOUNDED : union;
     }
 }
@@ -0,0 +1,88 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.math.geometry.mesh;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file byte by byte through memory mapped windows. A single mapping can't be bigger than 2 GB, so bigger files
+ * are mapped one window at a time, and values crossing the window boundary are handled transparently.
+ */
+final class MappedReader implements Closeable {
+    private static final long WINDOW_SIZE = 256L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    MappedReader(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        size = channel.size();
+        map(0);
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, size - start));
+    }
+
+    private boolean ensureData() throws IOException {
+        if (window.hasRemaining()) return true;
+        final var next = windowStart + window.limit();
+        if (next >= size) return false;
+        map(next);
+        return true;
+    }
+
+    /**
+     * @return The next byte, from 0 to 255, or -1 at the end of the file.
+     */
+    int read() throws IOException {
+        return ensureData() ? window.get() & 0xFF : -1;
+    }
+
+    /**
+     * @return The next byte, without consuming it, or -1 at the end of the file.
+     */
+    int peek() throws IOException {
+        return ensureData() ? window.get(window.position()) & 0xFF : -1;
+    }
+
+    /**
+     * Reads the next byte, failing at the end of the file. Used for binary data, where the file size is known.
+     */
+    int readByte() throws IOException {
+        final var b = read();
+        if (b == -1) throw new IOException("Unexpected end of file");
+        return b;
+    }
+
+    long position() {
+        return windowStart + window.position();
+    }
+
+    long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
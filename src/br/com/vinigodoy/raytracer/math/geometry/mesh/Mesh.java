@@ -0,0 +1,359 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.math.geometry.mesh;
+
+import br.com.vinigodoy.raytracer.material.Material;
+import br.com.vinigodoy.raytracer.math.BBox;
+import br.com.vinigodoy.raytracer.math.Ray;
+import br.com.vinigodoy.raytracer.math.Vector3;
+import br.com.vinigodoy.raytracer.math.geometry.GeometricObject;
+import br.com.vinigodoy.raytracer.math.geometry.accel.BVH;
+import br.com.vinigodoy.raytracer.math.geometry.accel.Traversal;
+import br.com.vinigodoy.raytracer.utility.FloatRef;
+import br.com.vinigodoy.raytracer.utility.ShadeRec;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+
+/**
+ * A triangle mesh. Vertex positions, vertex normals and triangle indices are kept in packed primitive arrays, so a
+ * triangle costs a few bytes instead of several objects, and the triangles are indexed by their own bounding volume
+ * hierarchy.
+ * <p>
+ * If vertex normals are given, they are interpolated over each triangle (smooth shading). Otherwise, each triangle is
+ * shaded with its face normal. As in {@link br.com.vinigodoy.raytracer.math.geometry.primitive.Triangle}, vertices
+ * must be given in a counter-clockwise direction.
+ */
+public class Mesh implements GeometricObject {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final float[] positions;
+    private final float[] normals;
+    private final int[] indices;
+    private final Material material;
+    private final BBox bounds;
+
+    private transient BVH.Intersector intersector = this::intersect;
+
+    /**
+     * Triangle hierarchy. Built on first use, and left out of the serialized mesh, as in {@link
+     * br.com.vinigodoy.raytracer.math.geometry.compound.Compound}.
+     */
+    private transient volatile BVH hierarchy;
+
+    /**
+     * Creates a new mesh.
+     *
+     * @param positions Vertex positions, as x, y, z triples.
+     * @param normals   Vertex normals, as x, y, z triples, or null for flat shading.
+     * @param indices   Triangle vertex indices, three for each triangle.
+     * @param material  The mesh material
+     * @throws IllegalArgumentException If the arrays are not consistent or the mesh has no triangles.
+     */
+    public Mesh(float[] positions, float[] normals, int[] indices, Material material) {
+        if (positions.length % 3 != 0)
+            throw new IllegalArgumentException("Positions must be given as x, y, z triples.");
+        if (normals != null && normals.length != positions.length)
+            throw new IllegalArgumentException("There must be one normal for each vertex.");
+        if (indices.length == 0 || indices.length % 3 != 0)
+            throw new IllegalArgumentException("Indices must be given as triples, with at least one triangle.");
+
+        final var vertexCount = positions.length / 3;
+        for (var index : indices) {
+            if (index < 0 || index >= vertexCount)
+                throw new IllegalArgumentException("Invalid vertex index: " + index);
+        }
+
+        this.positions = positions;
+        this.normals = normals;
+        this.indices = indices;
+        this.material = material;
+        this.bounds = computeBounds();
+    }
+
+    /**
+     * Creates a new flat shaded mesh.
+     *
+     * @param positions Vertex positions, as x, y, z triples.
+     * @param indices   Triangle vertex indices, three for each triangle.
+     * @param material  The mesh material
+     */
+    public Mesh(float[] positions, int[] indices, Material material) {
+        this(positions, null, indices, material);
+    }
+
+    /**
+     * Calculates smooth vertex normals, averaging the normals of all triangles sharing each vertex. Bigger triangles
+     * have more weight in the average.
+     *
+     * @param positions Vertex positions, as x, y, z triples.
+     * @param indices   Triangle vertex indices, three for each triangle.
+     * @return The vertex normals, as x, y, z triples.
+     */
+    public static float[] computeNormals(float[] positions, int[] indices) {
+        final var normals = new float[positions.length];
+        for (var i = 0; i < indices.length; i += 3) {
+            final var a = indices[i] * 3;
+            final var b = indices[i + 1] * 3;
+            final var c = indices[i + 2] * 3;
+
+            final var e1x = positions[b] - positions[a];
+            final var e1y = positions[b + 1] - positions[a + 1];
+            final var e1z = positions[b + 2] - positions[a + 2];
+            final var e2x = positions[c] - positions[a];
+            final var e2y = positions[c + 1] - positions[a + 1];
+            final var e2z = positions[c + 2] - positions[a + 2];
+
+            //The cross product length is twice the triangle area, so it already weights the sum.
+            final var nx = e1y * e2z - e1z * e2y;
+            final var ny = e1z * e2x - e1x * e2z;
+            final var nz = e1x * e2y - e1y * e2x;
+            add(normals, a, nx, ny, nz);
+            add(normals, b, nx, ny, nz);
+            add(normals, c, nx, ny, nz);
+        }
+
+        for (var v = 0; v < normals.length; v += 3) {
+            final var size = (float) Math.sqrt(
+                    normals[v] * normals[v] + normals[v + 1] * normals[v + 1] + normals[v + 2] * normals[v + 2]);
+            if (size == 0) continue;
+            normals[v] /= size;
+            normals[v + 1] /= size;
+            normals[v + 2] /= size;
+        }
+        return normals;
+    }
+
+    private static void add(float[] normals, int v, float x, float y, float z) {
+        normals[v] += x;
+        normals[v + 1] += y;
+        normals[v + 2] += z;
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        intersector = this::intersect;
+    }
+
+    public int getVertexCount() {
+        return positions.length / 3;
+    }
+
+    public int getTriangleCount() {
+        return indices.length / 3;
+    }
+
+    public boolean isSmooth() {
+        return normals != null;
+    }
+
+    /**
+     * @return The statistics of the triangle hierarchy. The hierarchy is built if necessary.
+     */
+    public BVH.Stats getStats() {
+        return getHierarchy().getStats();
+    }
+
+    @Override
+    public Material getMaterial() {
+        return material;
+    }
+
+    @Override
+    public BBox getBounds() {
+        return bounds;
+    }
+
+    @Override
+    public void buildHierarchy() {
+        getHierarchy();
+    }
+
+    @Override
+    public boolean hit(Ray ray, ShadeRec sr, FloatRef tmin) {
+        final var triangle = getHierarchy().hit(ray, Float.MAX_VALUE, intersector, sr.traversal());
+        if (triangle == -1) return false;
+
+        tmin.value = intersect(triangle, ray, Float.MAX_VALUE);
+        sr.worldHitPoint = ray.pointAt(tmin.value);
+        sr.localHitPoint = sr.worldHitPoint;
+        sr.normal = normalAt(triangle, sr.worldHitPoint);
+        return true;
+    }
+
+    @Override
+    public boolean shadow_hit(Ray ray, FloatRef tmin) {
+        return shadow_hit(ray, tmin, Traversal.current());
+    }
+
+    @Override
+    public boolean shadow_hit(Ray ray, FloatRef tmin, Traversal traversal) {
+        final var triangle = getHierarchy().hit(ray, Float.MAX_VALUE, intersector, traversal);
+        if (triangle == -1) return false;
+
+        tmin.value = intersect(triangle, ray, Float.MAX_VALUE);
+        return true;
+    }
+
+    /**
+     * Any triangle closer than d blocks the ray, so the hierarchy stops at the first one found, instead of searching
+     * for the closest one.
+     */
+    @Override
+    public boolean shadow_hit(Ray ray, FloatRef tmin, float d, Traversal traversal) {
+        return getHierarchy().shadowHit(ray, d, intersector, traversal);
+    }
+
+    /**
+     * Returns the triangle hierarchy, building it if necessary. Several render threads may hit the mesh at once, so
+     * the hierarchy is built by only one of them.
+     */
+    private BVH getHierarchy() {
+        var hierarchy = this.hierarchy;
+        if (hierarchy != null) return hierarchy;
+
+        synchronized (this) {
+            hierarchy = this.hierarchy;
+            if (hierarchy == null) {
+                hierarchy = BVH.build(triangleBounds(), getTriangleCount());
+                this.hierarchy = hierarchy;
+            }
+        }
+        return hierarchy;
+    }
+
+    private BBox computeBounds() {
+        float x0 = Float.MAX_VALUE, y0 = Float.MAX_VALUE, z0 = Float.MAX_VALUE;
+        float x1 = -Float.MAX_VALUE, y1 = -Float.MAX_VALUE, z1 = -Float.MAX_VALUE;
+        for (var index : indices) {
+            final var v = index * 3;
+            x0 = Math.min(x0, positions[v]);
+            y0 = Math.min(y0, positions[v + 1]);
+            z0 = Math.min(z0, positions[v + 2]);
+            x1 = Math.max(x1, positions[v]);
+            y1 = Math.max(y1, positions[v + 1]);
+            z1 = Math.max(z1, positions[v + 2]);
+        }
+        return new BBox(x0, x1, y0, y1, z0, z1);
+    }
+
+    /**
+     * @return The bounds of each triangle, packed as the hierarchy builder expects them.
+     */
+    private float[] triangleBounds() {
+        final var boxes = new float[getTriangleCount() * 6];
+        for (var i = 0; i < indices.length; i++) {
+            final var v = indices[i] * 3;
+            final var box = (i / 3) * 6;
+            for (var axis = 0; axis < 3; axis++) {
+                final var value = positions[v + axis];
+                if (i % 3 == 0 || value < boxes[box + axis]) boxes[box + axis] = value;
+                if (i % 3 == 0 || value > boxes[box + 3 + axis]) boxes[box + 3 + axis] = value;
+            }
+        }
+        return boxes;
+    }
+
+    /**
+     * Möller-Trumbore ray triangle intersection.
+     *
+     * @return The hit distance, or Float.POSITIVE_INFINITY if the triangle is not hit closer than tMax.
+     */
+    private float intersect(int triangle, Ray ray, float tMax) {
+        final var a = indices[triangle * 3] * 3;
+        final var b = indices[triangle * 3 + 1] * 3;
+        final var c = indices[triangle * 3 + 2] * 3;
+
+        final var e1x = positions[b] - positions[a];
+        final var e1y = positions[b + 1] - positions[a + 1];
+        final var e1z = positions[b + 2] - positions[a + 2];
+        final var e2x = positions[c] - positions[a];
+        final var e2y = positions[c + 1] - positions[a + 1];
+        final var e2z = positions[c + 2] - positions[a + 2];
+
+        final var dx = ray.getDirection().getX();
+        final var dy = ray.getDirection().getY();
+        final var dz = ray.getDirection().getZ();
+
+        final var px = dy * e2z - dz * e2y;
+        final var py = dz * e2x - dx * e2z;
+        final var pz = dx * e2y - dy * e2x;
+
+        final var det = e1x * px + e1y * py + e1z * pz;
+        if (det == 0) return Float.POSITIVE_INFINITY;
+        final var invDet = 1.0f / det;
+
+        final var sx = ray.getOrigin().getX() - positions[a];
+        final var sy = ray.getOrigin().getY() - positions[a + 1];
+        final var sz = ray.getOrigin().getZ() - positions[a + 2];
+
+        final var u = (sx * px + sy * py + sz * pz) * invDet;
+        if (u < 0.0f || u > 1.0f) return Float.POSITIVE_INFINITY;
+
+        final var qx = sy * e1z - sz * e1y;
+        final var qy = sz * e1x - sx * e1z;
+        final var qz = sx * e1y - sy * e1x;
+
+        final var v = (dx * qx + dy * qy + dz * qz) * invDet;
+        if (v < 0.0f || u + v > 1.0f) return Float.POSITIVE_INFINITY;
+
+        final var t = (e2x * qx + e2y * qy + e2z * qz) * invDet;
+        return t < K_EPSILON || t >= tMax ? Float.POSITIVE_INFINITY : t;
+    }
+
+    /**
+     * Calculates the shading normal at a point of the triangle. For smooth meshes, vertex normals are interpolated with
+     * the barycentric coordinates of the point.
+     */
+    private Vector3 normalAt(int triangle, Vector3 p) {
+        final var a = indices[triangle * 3] * 3;
+        final var b = indices[triangle * 3 + 1] * 3;
+        final var c = indices[triangle * 3 + 2] * 3;
+
+        final var e1x = positions[b] - positions[a];
+        final var e1y = positions[b + 1] - positions[a + 1];
+        final var e1z = positions[b + 2] - positions[a + 2];
+        final var e2x = positions[c] - positions[a];
+        final var e2y = positions[c + 1] - positions[a + 1];
+        final var e2z = positions[c + 2] - positions[a + 2];
+
+        if (normals != null) {
+            final var px = p.getX() - positions[a];
+            final var py = p.getY() - positions[a + 1];
+            final var pz = p.getZ() - positions[a + 2];
+
+            final var d11 = e1x * e1x + e1y * e1y + e1z * e1z;
+            final var d12 = e1x * e2x + e1y * e2y + e1z * e2z;
+            final var d22 = e2x * e2x + e2y * e2y + e2z * e2z;
+            final var dp1 = px * e1x + py * e1y + pz * e1z;
+            final var dp2 = px * e2x + py * e2y + pz * e2z;
+            final var denom = d11 * d22 - d12 * d12;
+
+            final var v = (d22 * dp1 - d12 * dp2) / denom;
+            final var w = (d11 * dp2 - d12 * dp1) / denom;
+            final var u = 1.0f - v - w;
+
+            final var normal = new Vector3(
+                    u * normals[a] + v * normals[b] + w * normals[c],
+                    u * normals[a + 1] + v * normals[b + 1] + w * normals[c + 1],
+                    u * normals[a + 2] + v * normals[b + 2] + w * normals[c + 2]);
+
+            //Degenerated vertex normals fall back to the face normal
+            if (!normal.isZero()) return normal.normalize();
+        }
+
+        return new Vector3(e1y * e2z - e1z * e2y, e1z * e2x - e1x * e2z, e1x * e2y - e1y * e2x).normalize();
+    }
+}
@@ -0,0 +1,128 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.math.geometry.mesh;
+
+import br.com.vinigodoy.raytracer.material.Material;
+
+import java.util.Arrays;
+
+/**
+ * Collects the packed mesh arrays while a file is parsed. Arrays grow by half of their size, and are trimmed only
+ * once, when the mesh is built.
+ */
+final class MeshBuilder {
+    private float[] positions;
+    private float[] normals;
+    private int[] indices;
+    private int vertexCount;
+    private int indexCount;
+    private boolean hasNormals;
+
+    MeshBuilder(long expectedVertices, long expectedTriangles) {
+        positions = new float[capacity(expectedVertices)];
+        indices = new int[capacity(expectedTriangles)];
+    }
+
+    /**
+     * @return The array length for the given number of vertices or triangles, with three values each.
+     */
+    private static int capacity(long count) {
+        final var length = Math.max(count, 16) * 3;
+        if (length > Integer.MAX_VALUE - 8) throw new IllegalStateException("Mesh is too big");
+        return (int) length;
+    }
+
+    int getVertexCount() {
+        return vertexCount;
+    }
+
+    int getTriangleCount() {
+        return indexCount / 3;
+    }
+
+    void addVertex(float x, float y, float z) {
+        if (vertexCount * 3 == positions.length) positions = grow(positions);
+        positions[vertexCount * 3] = x;
+        positions[vertexCount * 3 + 1] = y;
+        positions[vertexCount * 3 + 2] = z;
+        vertexCount++;
+    }
+
+    /**
+     * Sets the normal of an already added vertex.
+     */
+    void setNormal(int vertex, float x, float y, float z) {
+        if (normals == null) normals = new float[positions.length];
+        if (normals.length < positions.length) normals = Arrays.copyOf(normals, positions.length);
+        normals[vertex * 3] = x;
+        normals[vertex * 3 + 1] = y;
+        normals[vertex * 3 + 2] = z;
+        hasNormals = true;
+    }
+
+    void addTriangle(int v0, int v1, int v2) {
+        if (indexCount == indices.length) indices = grow(indices);
+        indices[indexCount++] = v0;
+        indices[indexCount++] = v1;
+        indices[indexCount++] = v2;
+    }
+
+    /**
+     * Creates the mesh. Smooth meshes use the vertex normals given by the file. Vertices without normals, or all of
+     * them if the file has none, get the normals calculated by {@link Mesh#computeNormals(float[], int[])}.
+     *
+     * @param material The mesh material
+     * @param smooth   True to interpolate vertex normals, false for flat shading.
+     * @return The mesh
+     */
+    Mesh build(Material material, boolean smooth) {
+        final var meshPositions = trim(positions, vertexCount * 3);
+        final var meshIndices = trim(indices, indexCount);
+        positions = null;
+        indices = null;
+        if (!smooth) return new Mesh(meshPositions, meshIndices, material);
+
+        final var meshNormals = Mesh.computeNormals(meshPositions, meshIndices);
+        if (hasNormals) {
+            for (var i = 0; i < meshNormals.length && i < normals.length; i += 3) {
+                if (normals[i] == 0 && normals[i + 1] == 0 && normals[i + 2] == 0) continue;
+                meshNormals[i] = normals[i];
+                meshNormals[i + 1] = normals[i + 1];
+                meshNormals[i + 2] = normals[i + 2];
+            }
+        }
+        normals = null;
+        return new Mesh(meshPositions, meshNormals, meshIndices, material);
+    }
+
+    private static float[] grow(float[] array) {
+        return Arrays.copyOf(array, newLength(array.length));
+    }
+
+    private static int[] grow(int[] array) {
+        return Arrays.copyOf(array, newLength(array.length));
+    }
+
+    private static int newLength(int length) {
+        final var newLength = (long) length + (length >> 1);
+        if (newLength > Integer.MAX_VALUE - 8) throw new IllegalStateException("Mesh is too big");
+        return (int) newLength - (int) newLength % 3;
+    }
+
+    private static float[] trim(float[] array, int length) {
+        return array.length == length ? array : Arrays.copyOf(array, length);
+    }
+
+    private static int[] trim(int[] array, int length) {
+        return array.length == length ? array : Arrays.copyOf(array, length);
+    }
+}
@@ -0,0 +1,124 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.math.geometry.mesh;
+
+import br.com.vinigodoy.raytracer.material.Material;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.nio.file.Path;
+
+/**
+ * Loads meshes from Wavefront OBJ (.obj) and binary PLY (.ply) files.
+ * <p>
+ * Files are read through memory mapped windows and parsed byte by byte, straight into the packed mesh arrays. No
+ * string or vector is created for each vertex, so the heap holds little more than the final mesh. The statistics of
+ * the last load can be used to check the throughput and the peak heap usage of big assets.
+ */
+public class MeshLoader {
+    /**
+     * Statistics of a mesh load.
+     *
+     * @param bytes         File size
+     * @param vertices      Number of vertices loaded
+     * @param triangles     Number of triangles loaded, after splitting polygons.
+     * @param timeNanos     Time spent loading, in nanoseconds.
+     * @param peakHeapBytes Peak heap usage during the load.
+     */
+    public record Stats(long bytes, int vertices, int triangles, long timeNanos, long peakHeapBytes) {
+        /**
+         * @return The loading throughput, in megabytes per second.
+         */
+        public double megabytesPerSecond() {
+            return timeNanos == 0 ? 0 : bytes / (1024.0 * 1024.0) / (timeNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d vertices, %d triangles, %.1f MB in %.2fms (%.1f MB/s), peak heap %.1f MB",
+                    vertices, triangles, bytes / (1024.0 * 1024.0), timeNanos / 1e6, megabytesPerSecond(),
+                    peakHeapBytes / (1024.0 * 1024.0));
+        }
+    }
+
+    private boolean smooth = true;
+    private Stats stats;
+
+    /**
+     * Sets if the loaded meshes interpolate vertex normals. If the file has no normals, they are calculated.
+     *
+     * @param smooth True for smooth shading, false for flat shading. Default is true.
+     * @return This loader.
+     */
+    public MeshLoader setSmooth(boolean smooth) {
+        this.smooth = smooth;
+        return this;
+    }
+
+    public boolean isSmooth() {
+        return smooth;
+    }
+
+    /**
+     * Loads a mesh. The file format is given by the file extension.
+     *
+     * @param path     The file path
+     * @param material The mesh material
+     * @return The loaded mesh.
+     * @throws IOException If the file can't be read, is malformed or its format is not supported.
+     */
+    public Mesh load(Path path, Material material) throws IOException {
+        final var file = path.getFileName().toString().toLowerCase();
+        if (!file.endsWith(".obj") && !file.endsWith(".ply"))
+            throw new IOException("Unsupported mesh format: " + path);
+
+        resetPeakHeap();
+        final var start = System.nanoTime();
+        try (var in = new MappedReader(path)) {
+            final var builder = file.endsWith(".obj") ? ObjParser.parse(in) : PlyParser.parse(in);
+            if (builder.getTriangleCount() == 0) throw new IOException("Mesh has no triangles: " + path);
+
+            final Mesh mesh;
+            try {
+                mesh = builder.build(material, smooth);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid mesh " + path + ": " + e.getMessage(), e);
+            }
+
+            stats = new Stats(in.size(), mesh.getVertexCount(), mesh.getTriangleCount(),
+                    System.nanoTime() - start, peakHeap());
+            return mesh;
+        }
+    }
+
+    /**
+     * @return The statistics of the last successful load, or null if nothing was loaded yet.
+     */
+    public Stats getStats() {
+        return stats;
+    }
+
+    private static void resetPeakHeap() {
+        for (var pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+        }
+    }
+
+    private static long peakHeap() {
+        var peak = 0L;
+        for (var pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) peak += pool.getPeakUsage().getUsed();
+        }
+        return peak;
+    }
+}
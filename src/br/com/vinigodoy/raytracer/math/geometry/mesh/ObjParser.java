@@ -0,0 +1,220 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.math.geometry.mesh;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Parses Wavefront OBJ files straight from the mapped bytes. Only vertex positions (v), vertex normals (vn) and faces
+ * (f) are read, and polygons are split in triangle fans. Everything else (texture coordinates, groups, materials) is
+ * skipped.
+ * <p>
+ * OBJ files index normals apart from positions, while the mesh keeps one normal per position. So each position gets
+ * the normal of the first face corner that uses it.
+ */
+final class ObjParser {
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    /**
+     * Most vertices preallocated from the file size. Bigger files grow the arrays as they're read, so a bad guess never
+     * takes more memory than the mesh needs.
+     */
+    private static final long MAX_EXPECTED_VERTICES = 1 << 20;
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (var i = 1; i < POWERS_OF_TEN.length; i++) POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+
+    private final MappedReader in;
+    private final MeshBuilder mesh;
+
+    private float[] fileNormals = new float[48];
+    private int fileNormalCount;
+    private boolean[] hasNormal = new boolean[16];
+    private int line = 1;
+
+    private ObjParser(MappedReader in) {
+        this.in = in;
+        //Roughly 30 bytes per vertex line, and two faces for each vertex
+        final var expectedVertices = Math.min(in.size() / 90, MAX_EXPECTED_VERTICES);
+        this.mesh = new MeshBuilder(expectedVertices, expectedVertices * 2);
+    }
+
+    static MeshBuilder parse(MappedReader in) throws IOException {
+        final var parser = new ObjParser(in);
+        parser.parse();
+        return parser.mesh;
+    }
+
+    private void parse() throws IOException {
+        while (true) {
+            skipSpaces();
+            final var c = in.read();
+            if (c == -1) return;
+            if (c == '\n') {
+                //Blank line: the line break is already consumed, so skipLine() would eat the next line
+                line++;
+                continue;
+            }
+
+            if (c == 'v') {
+                final var next = in.read();
+                if (isSpace(next)) mesh.addVertex(readFloat(), readFloat(), readFloat());
+                else if (next == 'n' && isSpace(in.peek())) addFileNormal(readFloat(), readFloat(), readFloat());
+            } else if (c == 'f' && isSpace(in.peek())) {
+                readFace();
+            }
+            skipLine();
+        }
+    }
+
+    private void addFileNormal(float x, float y, float z) {
+        if (fileNormalCount * 3 == fileNormals.length)
+            fileNormals = Arrays.copyOf(fileNormals, fileNormals.length * 2);
+        fileNormals[fileNormalCount * 3] = x;
+        fileNormals[fileNormalCount * 3 + 1] = y;
+        fileNormals[fileNormalCount * 3 + 2] = z;
+        fileNormalCount++;
+    }
+
+    private void readFace() throws IOException {
+        var first = -1;
+        var previous = -1;
+        var corners = 0;
+        while (true) {
+            skipSpaces();
+            final var c = in.peek();
+            if (c == -1 || c == '\n' || c == '#') break;
+
+            final var vertex = toIndex(readInt(), mesh.getVertexCount());
+            if (in.peek() == '/') {
+                in.read();
+                if (in.peek() != '/') readInt();  //Texture coordinate
+                if (in.peek() == '/') {
+                    in.read();
+                    setNormal(vertex, toIndex(readInt(), fileNormalCount));
+                }
+            }
+
+            if (corners == 0) first = vertex;
+            else if (corners > 1) mesh.addTriangle(first, previous, vertex);
+            previous = vertex;
+            corners++;
+        }
+    }
+
+    private void setNormal(int vertex, int normal) {
+        if (vertex >= hasNormal.length)
+            hasNormal = Arrays.copyOf(hasNormal, Math.max(vertex + 1, hasNormal.length * 2));
+        if (hasNormal[vertex]) return;
+        hasNormal[vertex] = true;
+        mesh.setNormal(vertex, fileNormals[normal * 3], fileNormals[normal * 3 + 1], fileNormals[normal * 3 + 2]);
+    }
+
+    /**
+     * Converts an OBJ index, which starts at 1 or is negative to count from the last element, to an array index.
+     */
+    private int toIndex(int index, int count) throws IOException {
+        final var converted = index < 0 ? count + index : index - 1;
+        if (converted < 0 || converted >= count)
+            throw new IOException("Invalid index " + index + " at line " + line);
+        return converted;
+    }
+
+    private static boolean isSpace(int c) {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+
+    private void skipSpaces() throws IOException {
+        while (isSpace(in.peek())) in.read();
+    }
+
+    private void skipLine() throws IOException {
+        int c;
+        do {
+            c = in.read();
+        } while (c != -1 && c != '\n');
+        line++;
+    }
+
+    private int readInt() throws IOException {
+        skipSpaces();
+        final var negative = in.peek() == '-';
+        if (negative || in.peek() == '+') in.read();
+
+        var value = 0L;
+        var digits = 0;
+        while (isDigit(in.peek())) {
+            value = value * 10 + (in.read() - '0');
+            if (value > Integer.MAX_VALUE) throw new IOException("Number too big at line " + line);
+            digits++;
+        }
+        if (digits == 0) throw new IOException("Number expected at line " + line);
+        return (int) (negative ? -value : value);
+    }
+
+    /**
+     * Reads a decimal number, with optional sign, fraction and exponent. Up to 18 significant digits are kept, which is
+     * far more than a float can represent.
+     */
+    private float readFloat() throws IOException {
+        skipSpaces();
+        final var negative = in.peek() == '-';
+        if (negative || in.peek() == '+') in.read();
+
+        var mantissa = 0L;
+        var exponent = 0;
+        var digits = 0;
+        var significant = 0;
+        while (isDigit(in.peek())) {
+            final var digit = in.read() - '0';
+            if (significant < 18) {
+                mantissa = mantissa * 10 + digit;
+                if (mantissa != 0) significant++;
+            } else {
+                exponent++;
+            }
+            digits++;
+        }
+
+        if (in.peek() == '.') {
+            in.read();
+            while (isDigit(in.peek())) {
+                final var digit = in.read() - '0';
+                if (significant < 18) {
+                    mantissa = mantissa * 10 + digit;
+                    if (mantissa != 0) significant++;
+                    exponent--;
+                }
+                digits++;
+            }
+        }
+        if (digits == 0) throw new IOException("Number expected at line " + line);
+
+        if (in.peek() == 'e' || in.peek() == 'E') {
+            in.read();
+            exponent += readInt();
+        }
+
+        double value = mantissa;
+        if (exponent > 0) value *= exponent < POWERS_OF_TEN.length ? POWERS_OF_TEN[exponent] : Math.pow(10, exponent);
+        else if (exponent < 0)
+            value /= -exponent < POWERS_OF_TEN.length ? POWERS_OF_TEN[-exponent] : Math.pow(10, -exponent);
+        return (float) (negative ? -value : value);
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+}
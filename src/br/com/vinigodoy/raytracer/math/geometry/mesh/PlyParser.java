@@ -0,0 +1,239 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.math.geometry.mesh;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses binary PLY files, in little or big endian. The text header is read first, and then the vertex x, y, z and
+ * nx, ny, nz properties and the face vertex index lists are read straight from the mapped bytes. Polygons are split in
+ * triangle fans, and any other element or property is skipped.
+ */
+final class PlyParser {
+    private enum Type {
+        INT8(1), UINT8(1), INT16(2), UINT16(2), INT32(4), UINT32(4), FLOAT32(4), FLOAT64(8);
+
+        private final int size;
+
+        Type(int size) {
+            this.size = size;
+        }
+
+        static Type of(String name) throws IOException {
+            return switch (name) {
+                case "char", "int8" -> INT8;
+                case "uchar", "uint8" -> UINT8;
+                case "short", "int16" -> INT16;
+                case "ushort", "uint16" -> UINT16;
+                case "int", "int32" -> INT32;
+                case "uint", "uint32" -> UINT32;
+                case "float", "float32" -> FLOAT32;
+                case "double", "float64" -> FLOAT64;
+                default -> throw new IOException("Unknown PLY type: " + name);
+            };
+        }
+    }
+
+    /**
+     * A property. List properties have a count type, and their values have the item type.
+     */
+    private record Property(String name, Type type, Type countType) {
+        boolean isList() {
+            return countType != null;
+        }
+    }
+
+    private record Element(String name, long count, List<Property> properties) {
+        int indexOf(String property) {
+            for (var i = 0; i < properties.size(); i++) {
+                if (properties.get(i).name().equals(property)) return i;
+            }
+            return -1;
+        }
+    }
+
+    private final MappedReader in;
+    private final List<Element> elements = new ArrayList<>();
+    private boolean bigEndian;
+    private MeshBuilder mesh;
+    private int[] polygon = new int[16];
+
+    private PlyParser(MappedReader in) {
+        this.in = in;
+    }
+
+    static MeshBuilder parse(MappedReader in) throws IOException {
+        final var parser = new PlyParser(in);
+        parser.readHeader();
+        parser.readBody();
+        return parser.mesh;
+    }
+
+    private void readHeader() throws IOException {
+        if (!readLine().equals("ply")) throw new IOException("Not a PLY file");
+
+        var vertices = 0L;
+        var faces = 0L;
+        while (true) {
+            final var line = readLine().trim();
+            final var tokens = line.split("\\s+");
+            switch (tokens[0]) {
+                case "format" -> {
+                    if (tokens.length < 2) throw new IOException("Invalid PLY format line: " + line);
+                    switch (tokens[1]) {
+                        case "binary_little_endian" -> bigEndian = false;
+                        case "binary_big_endian" -> bigEndian = true;
+                        default -> throw new IOException("Unsupported PLY format: " + tokens[1]);
+                    }
+                }
+                case "element" -> {
+                    if (tokens.length != 3) throw new IOException("Invalid PLY element line: " + line);
+                    final var element = new Element(tokens[1], Long.parseLong(tokens[2]), new ArrayList<>());
+                    elements.add(element);
+                    if (element.name().equals("vertex")) vertices = element.count();
+                    if (element.name().equals("face")) faces = element.count();
+                }
+                case "property" -> {
+                    if (elements.isEmpty()) throw new IOException("PLY property outside an element: " + line);
+                    final var properties = elements.get(elements.size() - 1).properties();
+                    if (tokens.length == 5 && tokens[1].equals("list"))
+                        properties.add(new Property(tokens[4], Type.of(tokens[3]), Type.of(tokens[2])));
+                    else if (tokens.length == 3)
+                        properties.add(new Property(tokens[2], Type.of(tokens[1]), null));
+                    else
+                        throw new IOException("Invalid PLY property line: " + line);
+                }
+                case "end_header" -> {
+                    if (vertices > Integer.MAX_VALUE / 3 || faces > Integer.MAX_VALUE / 3)
+                        throw new IOException("Mesh is too big");
+                    mesh = new MeshBuilder(vertices, faces);
+                    return;
+                }
+                default -> {
+                    //Comments, obj_info and empty lines
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a header line. The header is small, so here it's fine to create strings.
+     */
+    private String readLine() throws IOException {
+        final var line = new StringBuilder();
+        while (true) {
+            final var c = in.read();
+            if (c == -1) throw new IOException("Unexpected end of file in PLY header");
+            if (c == '\n') return line.toString().replace("\r", "");
+            line.append((char) c);
+        }
+    }
+
+    private void readBody() throws IOException {
+        for (var element : elements) {
+            switch (element.name()) {
+                case "vertex" -> readVertices(element);
+                case "face" -> readFaces(element);
+                default -> skip(element);
+            }
+        }
+    }
+
+    private void readVertices(Element element) throws IOException {
+        final var properties = element.properties();
+        final var x = element.indexOf("x");
+        final var y = element.indexOf("y");
+        final var z = element.indexOf("z");
+        if (x == -1 || y == -1 || z == -1) throw new IOException("PLY vertices must have x, y and z properties");
+
+        final var nx = element.indexOf("nx");
+        final var ny = element.indexOf("ny");
+        final var nz = element.indexOf("nz");
+        final var hasNormals = nx != -1 && ny != -1 && nz != -1;
+
+        final var values = new double[properties.size()];
+        for (var v = 0L; v < element.count(); v++) {
+            for (var p = 0; p < values.length; p++) {
+                final var property = properties.get(p);
+                if (property.isList()) skipList(property);
+                else values[p] = read(property.type());
+            }
+
+            mesh.addVertex((float) values[x], (float) values[y], (float) values[z]);
+            if (hasNormals)
+                mesh.setNormal(mesh.getVertexCount() - 1, (float) values[nx], (float) values[ny], (float) values[nz]);
+        }
+    }
+
+    private void readFaces(Element element) throws IOException {
+        final var properties = element.properties();
+        var indices = element.indexOf("vertex_indices");
+        if (indices == -1) indices = element.indexOf("vertex_index");
+        if (indices == -1 || !properties.get(indices).isList())
+            throw new IOException("PLY faces must have a vertex_indices list");
+
+        for (var f = 0L; f < element.count(); f++) {
+            for (var p = 0; p < properties.size(); p++) {
+                final var property = properties.get(p);
+                if (p != indices) {
+                    if (property.isList()) skipList(property);
+                    else skip(property.type().size);
+                    continue;
+                }
+
+                final var count = (int) read(property.countType());
+                if (count > polygon.length) polygon = new int[count];
+                for (var i = 0; i < count; i++) polygon[i] = (int) read(property.type());
+                for (var i = 2; i < count; i++) mesh.addTriangle(polygon[0], polygon[i - 1], polygon[i]);
+            }
+        }
+    }
+
+    private void skip(Element element) throws IOException {
+        for (var i = 0L; i < element.count(); i++) {
+            for (var property : element.properties()) {
+                if (property.isList()) skipList(property);
+                else skip(property.type().size);
+            }
+        }
+    }
+
+    private void skipList(Property property) throws IOException {
+        skip((long) read(property.countType()) * property.type().size);
+    }
+
+    private void skip(long bytes) throws IOException {
+        for (var i = 0L; i < bytes; i++) in.readByte();
+    }
+
+    /**
+     * Reads a binary value of the given type, in the file byte order.
+     */
+    private double read(Type type) throws IOException {
+        var bits = 0L;
+        for (var i = 0; i < type.size; i++) {
+            final long b = in.readByte();
+            bits |= bigEndian ? b << ((type.size - 1 - i) * 8) : b << (i * 8);
+        }
+
+        return switch (type) {
+            case INT8 -> (byte) bits;
+            case UINT8, UINT16, UINT32 -> bits;
+            case INT16 -> (short) bits;
+            case INT32 -> (int) bits;
+            case FLOAT32 -> Float.intBitsToFloat((int) bits);
+            case FLOAT64 -> Double.longBitsToDouble(bits);
+        };
+    }
+}
@@ -12,13 +12,19 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 package br.com.vinigodoy.raytracer.math.geometry.part;
 
 import br.com.vinigodoy.raytracer.material.Material;
+import br.com.vinigodoy.raytracer.math.BBox;
 import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.math.geometry.GeometricObject;
 import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 public class ConvexPartSphere implements GeometricObject {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final Vector3 center;        // center coordinates
     private final float radius;            // sphere radius
     private final float phiMin;            // minimum azimiuth angle measured counter clockwise from the +ve z axis
@@ -184,4 +190,15 @@ public class ConvexPartSphere implements GeometricObject {
     public Material getMaterial() {
         return material;
     }
+
+    /**
+     * @return The bounds of the whole sphere. It's not as tight as possible, but it is conservative.
+     */
+    @Override
+    public BBox getBounds() {
+        return new BBox(
+                center.getX() - radius, center.getX() + radius,
+                center.getY() - radius, center.getY() + radius,
+                center.getZ() - radius, center.getZ() + radius);
+    }
 }
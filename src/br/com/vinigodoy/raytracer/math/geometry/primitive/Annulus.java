@@ -12,16 +12,22 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 package br.com.vinigodoy.raytracer.math.geometry.primitive;
 
 import br.com.vinigodoy.raytracer.material.Material;
+import br.com.vinigodoy.raytracer.math.BBox;
 import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.math.geometry.GeometricObject;
 import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.normalize;
 import static br.com.vinigodoy.raytracer.math.Vector3.subtract;
 
 public class Annulus implements GeometricObject {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final Vector3 center;
     private final Vector3 normal;
     private final float outerRadius;
@@ -81,4 +87,16 @@ public class Annulus implements GeometricObject {
     public Material getMaterial() {
         return material;
     }
+
+    @Override
+    public BBox getBounds() {
+        //The extent of a disk along an axis is radius * sin(angle between the normal and the axis)
+        final var ex = outerRadius * (float) Math.sqrt(Math.max(0.0f, 1.0f - normal.getX() * normal.getX()));
+        final var ey = outerRadius * (float) Math.sqrt(Math.max(0.0f, 1.0f - normal.getY() * normal.getY()));
+        final var ez = outerRadius * (float) Math.sqrt(Math.max(0.0f, 1.0f - normal.getZ() * normal.getZ()));
+        return new BBox(
+                center.getX() - ex, center.getX() + ex,
+                center.getY() - ey, center.getY() + ey,
+                center.getZ() - ez, center.getZ() + ez);
+    }
 }
@@ -20,10 +20,15 @@ import br.com.vinigodoy.raytracer.math.geometry.GeometricObject;
 import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 /**
  * Represents an axis-aligned box.
  */
 public class Box implements GeometricObject {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private enum Face {LEFT, RIGHT, BOTTOM, TOP, FRONT, BACK}
 
     private final float x0;
@@ -290,6 +295,7 @@ public class Box implements GeometricObject {
         return material;
     }
 
+    @Override
     public BBox getBounds() {
         return new BBox(x0, x1, y0, y1, z0, z1);
     }
@@ -20,9 +20,14 @@ import br.com.vinigodoy.raytracer.math.geometry.GeometricObject;
 import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static java.lang.Math.sqrt;
 
 public class OpenCylinder implements GeometricObject {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final float y0;
     private final float y1;
     private final float radius;
@@ -100,6 +105,7 @@ public class OpenCylinder implements GeometricObject {
         return false;
     }
 
+    @Override
     public BBox getBounds() {
         return new BBox(-radius, radius, y0, y1, -radius, radius);
     }
@@ -12,16 +12,22 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 package br.com.vinigodoy.raytracer.math.geometry.primitive;
 
 import br.com.vinigodoy.raytracer.material.Material;
+import br.com.vinigodoy.raytracer.math.BBox;
 import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.math.geometry.GeometricObject;
 import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.normalize;
 import static br.com.vinigodoy.raytracer.math.Vector3.subtract;
 
 public class Plane implements GeometricObject {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final Vector3 point;
     private final Vector3 normal;
     private final Material material;
@@ -64,4 +70,9 @@ public class Plane implements GeometricObject {
     public Material getMaterial() {
         return material;
     }
+
+    @Override
+    public BBox getBounds() {
+        return BBox.UNBOUNDED;
+    }
 }
@@ -13,6 +13,7 @@ package br.com.vinigodoy.raytracer.math.geometry.primitive;
 
 import br.com.vinigodoy.raytracer.material.EmissiveMaterial;
 import br.com.vinigodoy.raytracer.material.Material;
+import br.com.vinigodoy.raytracer.math.BBox;
 import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.math.geometry.EmissiveObject;
@@ -21,9 +22,14 @@ import br.com.vinigodoy.raytracer.sampler.Sampler;
 import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.*;
 
 public class Rectangle implements GeometricObject, EmissiveObject {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final Vector3 p0;            // corner vertex
     private final Vector3 a;              // side
     private final double aLenSquared;
@@ -100,8 +106,8 @@ public class Rectangle implements GeometricObject, EmissiveObject {
     }
 
     @Override
-    public Vector3 sample() {
-        final var sp = sampler.nextSampleSquare();
+    public Vector3 sample(ShadeRec sr) {
+        final var sp = sampler.nextSampleSquare(sr.squareSample);
         return multiply(a, sp.getX()).add(multiply(b, sp.getY())).add(p0);
     }
 
@@ -170,6 +176,20 @@ public class Rectangle implements GeometricObject, EmissiveObject {
         return material;
     }
 
+    @Override
+    public BBox getBounds() {
+        final var p1 = add(p0, a);
+        final var p2 = add(p0, b);
+        final var p3 = add(p1, b);
+        return new BBox(
+                Math.min(Math.min(p0.getX(), p1.getX()), Math.min(p2.getX(), p3.getX())),
+                Math.max(Math.max(p0.getX(), p1.getX()), Math.max(p2.getX(), p3.getX())),
+                Math.min(Math.min(p0.getY(), p1.getY()), Math.min(p2.getY(), p3.getY())),
+                Math.max(Math.max(p0.getY(), p1.getY()), Math.max(p2.getY(), p3.getY())),
+                Math.min(Math.min(p0.getZ(), p1.getZ()), Math.min(p2.getZ(), p3.getZ())),
+                Math.max(Math.max(p0.getZ(), p1.getZ()), Math.max(p2.getZ(), p3.getZ())));
+    }
+
     @Override
     public EmissiveMaterial getEmissiveMaterial() {
         return (EmissiveMaterial) material;
@@ -21,10 +21,15 @@ import br.com.vinigodoy.raytracer.math.geometry.GeometricObject;
 import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.multiply;
 import static br.com.vinigodoy.raytracer.math.Vector3.subtract;
 
 public class Sphere implements GeometricObject {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final Vector3 center;
     private final float radius;
     private final Material material;
@@ -121,8 +126,12 @@ public class Sphere implements GeometricObject {
         return material;
     }
 
+    @Override
     public BBox getBounds() {
-        return new BBox(-radius, radius, -radius, radius, -radius, radius);
+        return new BBox(
+                center.getX() - radius, center.getX() + radius,
+                center.getY() - radius, center.getY() + radius,
+                center.getZ() - radius, center.getZ() + radius);
     }
 
 }
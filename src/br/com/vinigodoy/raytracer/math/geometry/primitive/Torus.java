@@ -17,10 +17,17 @@ import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Solvers;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.math.geometry.GeometricObject;
+import br.com.vinigodoy.raytracer.math.geometry.accel.Traversal;
+import br.com.vinigodoy.raytracer.stats.Counter;
 import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 public class Torus implements GeometricObject {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final float a; //Swept radius
     private final float b; //Tube radius
     private final Material material;
@@ -35,7 +42,7 @@ public class Torus implements GeometricObject {
 
     @Override
     public boolean hit(Ray ray, ShadeRec sr, FloatRef tmin) {
-        if (!shadow_hit(ray, tmin))
+        if (!shadow_hit(ray, tmin, sr.traversal()))
             return false;
 
         sr.worldHitPoint = ray.pointAt(tmin.value);
@@ -47,7 +54,18 @@ public class Torus implements GeometricObject {
 
     @Override
     public boolean shadow_hit(Ray ray, FloatRef tmin) {
-        if (!bbox.hit(ray)) return false;
+        return shadow_hit(ray, tmin, Traversal.current());
+    }
+
+    @Override
+    public boolean shadow_hit(Ray ray, FloatRef tmin, float d, Traversal traversal) {
+        return shadow_hit(ray, tmin, traversal) && tmin.value < d;
+    }
+
+    @Override
+    public boolean shadow_hit(Ray ray, FloatRef tmin, Traversal traversal) {
+        final var stats = traversal.stats;
+        if (!bbox.hit(ray, stats)) return false;
 
         final var x1 = ray.getOrigin().getX();
         final var y1 = ray.getOrigin().getY();
@@ -73,6 +91,7 @@ public class Torus implements GeometricObject {
         coeffs[4] = sum_d_sqrd * sum_d_sqrd;                    // coefficient of t^4
 
         // find roots of the quartic equation
+        if (stats != null) stats.count(Counter.QUARTIC_SOLVES);
         final var num_real_roots = Solvers.solveQuartic(coeffs, roots);
 
         var intersected = false;
@@ -118,6 +137,7 @@ public class Torus implements GeometricObject {
         return new Torus(a, b, material.clone());
     }
 
+    @Override
     public BBox getBounds() {
         return bbox;
     }
@@ -12,15 +12,21 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 package br.com.vinigodoy.raytracer.math.geometry.primitive;
 
 import br.com.vinigodoy.raytracer.material.Material;
+import br.com.vinigodoy.raytracer.math.BBox;
 import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.math.geometry.GeometricObject;
 import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.Serial;
+
 import static br.com.vinigodoy.raytracer.math.Vector3.normalize;
 
 public class Triangle implements GeometricObject {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final Material material;
     private final Vector3 v0;
     private final Vector3 v1;
@@ -82,6 +88,14 @@ public class Triangle implements GeometricObject {
         return material;
     }
 
+    @Override
+    public BBox getBounds() {
+        return new BBox(
+                Math.min(v0.getX(), Math.min(v1.getX(), v2.getX())), Math.max(v0.getX(), Math.max(v1.getX(), v2.getX())),
+                Math.min(v0.getY(), Math.min(v1.getY(), v2.getY())), Math.max(v0.getY(), Math.max(v1.getY(), v2.getY())),
+                Math.min(v0.getZ(), Math.min(v1.getZ(), v2.getZ())), Math.max(v0.getZ(), Math.max(v1.getZ(), v2.getZ())));
+    }
+
     @Override
     public boolean hit(Ray ray, ShadeRec sr, FloatRef tmin) {
         if (shadow_hit(ray, tmin)) {
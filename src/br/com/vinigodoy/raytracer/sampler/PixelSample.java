@@ -0,0 +1,81 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.sampler;
+
+/**
+ * The pixel sample a thread is tracing, when samples are read by pixel instead of in sequence. It works as a counter
+ * based random generator: the set of each read is picked by hashing the render seed, the pixel and the read number.
+ * <p>
+ * Each pixel gets its own set for each sampler read made while tracing a sample, so the kth read of every sample of
+ * the pixel comes from the same set, or uses the same sequence seed. Reads are numbered from the start of each sample,
+ * so the first read, usually the position inside the pixel, takes the nth sample of one set, the second read, such as
+ * a lens or light sample, the nth sample of another set, and so on. Once a set is exhausted, the pixel moves to
+ * another one.
+ * <p>
+ * Each thread has a single instance, shared by the cursors of all samplers.
+ */
+final class PixelSample {
+    private static final ThreadLocal<PixelSample> CURRENT = ThreadLocal.withInitial(PixelSample::new);
+
+    private boolean active;
+    private long seed;
+    private int pixel;
+    private int n;
+    private int read;
+
+    private PixelSample() {
+    }
+
+    static PixelSample current() {
+        return CURRENT.get();
+    }
+
+    void start(long seed, int pixel, int n) {
+        this.active = true;
+        this.seed = seed;
+        this.pixel = pixel;
+        this.n = n;
+        this.read = 0;
+    }
+
+    void end() {
+        active = false;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    int getN() {
+        return n;
+    }
+
+    /**
+     * @return The table index of the next read of this sample.
+     */
+    int next(SampleTable table) {
+        final var numSamples = table.getNumSamples();
+        final var set = Math.floorMod(nextSeed() + n / numSamples, table.getNumSets());
+        return table.indexOf(set, n % numSamples);
+    }
+
+    /**
+     * @return A seed for the next read of this sample, made by hashing the render seed, the pixel and the read number.
+     * Sample sequences read the nth point with this seed.
+     */
+    int nextSeed() {
+        var z = seed + pixel * 0x9E3779B97F4A7C15L + read++ * 0xC2B2AE3D27D4EB4FL;
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return (int) (z ^ (z >>> 33));
+    }
+}
@@ -11,10 +11,6 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 
 package br.com.vinigodoy.raytracer.sampler;
 
-import br.com.vinigodoy.raytracer.math.Vector2;
-
-import java.util.List;
-
 /**
  * A sample is a set of distributed points in a (0,1)-(0,1) space.
  * There are several algorithms to generate samples, usually in a random pattern.
@@ -24,9 +20,9 @@ public interface Sample {
      * Create a set of samples.
      *
      * @param numSamples Number of samples in the set
-     * @return The samples.
+     * @return The samples, packed in x, y pairs. That is, the sample i is at indices 2*i and 2*i+1.
      * @throws br.com.vinigodoy.raytracer.utility.RaytraceException
      *          If tne number of samples is smaller than 1.
      */
-    List<Vector2> createSamples(int numSamples);
+    float[] createSamples(int numSamples);
 }
@@ -0,0 +1,86 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+package br.com.vinigodoy.raytracer.sampler;
+
+import br.com.vinigodoy.raytracer.math.Vector2;
+
+import static br.com.vinigodoy.raytracer.utility.Rnd.rndInt;
+
+/**
+ * Position of a reader in a sample table or sequence. Each time a set is exhausted, a new random set, or a new random
+ * sequence seed, is chosen. While the thread is tracing a {@link PixelSample}, the sample is chosen by the pixel
+ * instead.
+ * <p>
+ * Cursors are cheap and not thread safe: each thread must use its own cursor.
+ */
+final class SampleCursor {
+    private int count = 0;
+    private int set = 0;
+    private int seed = 0;
+    private final PixelSample pixelSample = PixelSample.current();
+    private final Vector2 point = new Vector2();
+
+    /**
+     * @return The table index of the next sample.
+     */
+    int next(SampleTable table) {
+        if (pixelSample.isActive()) return pixelSample.next(table);
+
+        if (count == 0) {
+            set = rndInt(table.getNumSets());
+        }
+
+        final var index = table.indexOf(set, count);
+        count = (count + 1) % table.getNumSamples();
+        return index;
+    }
+
+    /**
+     * Moves to the next point of a sample sequence. Each run of numSamples points shares a random seed.
+     *
+     * @return The index of the point. Its seed is given by {@link #seed()}.
+     */
+    int next(int numSamples) {
+        if (pixelSample.isActive()) {
+            seed = pixelSample.nextSeed();
+            return pixelSample.getN();
+        }
+
+        if (count == 0) {
+            seed = rndInt(Integer.MAX_VALUE);
+        }
+
+        final var index = count;
+        count = (count + 1) % numSamples;
+        return index;
+    }
+
+    /**
+     * @return The seed of the last sequence point.
+     */
+    int seed() {
+        return seed;
+    }
+
+    /**
+     * @return A point to read sequence samples into, before they're mapped to another shape.
+     */
+    Vector2 point() {
+        return point;
+    }
+
+    /**
+     * Makes the next sample start a new set.
+     */
+    void reset() {
+        count = 0;
+    }
+}
@@ -0,0 +1,34 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.sampler;
+
+import br.com.vinigodoy.raytracer.math.Vector2;
+
+/**
+ * A low discrepancy sequence of points in the unit square, computed on demand. Unlike a {@link Sample}, no set is
+ * stored: any point of the sequence is calculated from its index.
+ * <p>
+ * Each seed gives a different randomization of the same sequence. Points with the same seed are well distributed
+ * among themselves, while points with different seeds are uncorrelated, so each pixel and each sampled dimension
+ * (pixel position, lens, light, hemisphere) uses its own seed.
+ */
+public interface SampleSequence {
+    /**
+     * Calculates a point of the sequence.
+     *
+     * @param index Point index, starting at 0.
+     * @param seed  Randomization seed
+     * @param out   Vector to store the point
+     * @return The out vector.
+     */
+    Vector2 getSample(int index, int seed, Vector2 out);
+}
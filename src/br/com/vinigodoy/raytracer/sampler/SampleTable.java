@@ -0,0 +1,192 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+package br.com.vinigodoy.raytracer.sampler;
+
+import br.com.vinigodoy.raytracer.math.Vector2;
+import br.com.vinigodoy.raytracer.math.Vector3;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+import static br.com.vinigodoy.raytracer.utility.Rnd.rndInt;
+import static java.lang.Math.*;
+
+/**
+ * Immutable table of sample sets, with the samples already mapped to a disk and to a hemisphere. Since it's never
+ * changed after creation, the same table can be shared by any number of samplers and threads.
+ * <p>
+ * All samples are packed in float arrays: square and disk samples take two floats each, and hemisphere samples three.
+ */
+public final class SampleTable implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final float[] samples;
+    private final float[] diskSamples;
+    private final float[] hemisphereSamples;
+    private final int[] shuffledIndices;
+
+    private final int numSamples;
+    private final int numSets;
+    private final float hemisphereExp;
+
+    public SampleTable(Sample sample, int numSamples, int numSets) {
+        this.numSamples = numSamples <= 0 ? 1 : numSamples;
+        this.numSets = numSets <= 0 ? 1 : numSets;
+        this.hemisphereExp = 1.0f;
+
+        this.samples = new float[this.numSets * this.numSamples * 2];
+        for (var j = 0; j < this.numSets; j++) {
+            final var set = sample.createSamples(this.numSamples);
+            System.arraycopy(set, 0, samples, j * this.numSamples * 2, this.numSamples * 2);
+        }
+
+        this.shuffledIndices = shuffleIndices(this.numSamples, this.numSets);
+        this.diskSamples = mapToDisk(samples);
+        this.hemisphereSamples = mapToHemisphere(samples, hemisphereExp);
+    }
+
+    private SampleTable(SampleTable table, float hemisphereExp) {
+        this.samples = table.samples;
+        this.diskSamples = table.diskSamples;
+        this.shuffledIndices = table.shuffledIndices;
+        this.numSamples = table.numSamples;
+        this.numSets = table.numSets;
+        this.hemisphereExp = hemisphereExp;
+        this.hemisphereSamples = mapToHemisphere(samples, hemisphereExp);
+    }
+
+    private static int[] shuffleIndices(int numSamples, int numSets) {
+        final var shuffled = new int[numSamples * numSets];
+        for (var i = 0; i < numSets; i++) {
+            final var jump = i * numSamples;
+            for (var j = 0; j < numSamples; j++)
+                shuffled[jump + j] = j;
+
+            for (var j = numSamples - 1; j > 0; j--) {
+                final var k = rndInt(j + 1);
+                final var aux = shuffled[jump + j];
+                shuffled[jump + j] = shuffled[jump + k];
+                shuffled[jump + k] = aux;
+            }
+        }
+        return shuffled;
+    }
+
+    private static float[] mapToDisk(float[] samples) {
+        final var diskSamples = new float[samples.length];
+        final var out = new Vector2();
+        for (var i = 0; i < samples.length; i += 2) {
+            toDisk(samples[i], samples[i + 1], out);
+            diskSamples[i] = out.getX();
+            diskSamples[i + 1] = out.getY();
+        }
+        return diskSamples;
+    }
+
+    private static float[] mapToHemisphere(float[] samples, float e) {
+        final var hemisphereSamples = new float[samples.length / 2 * 3];
+        final var out = new Vector3();
+        for (int i = 0, j = 0; i < samples.length; i += 2, j += 3) {
+            toHemisphere(samples[i], samples[i + 1], e, out);
+            hemisphereSamples[j] = out.getX();
+            hemisphereSamples[j + 1] = out.getY();
+            hemisphereSamples[j + 2] = out.getZ();
+        }
+        return hemisphereSamples;
+    }
+
+    /**
+     * Maps a sample of the unit square to the unit disk, using concentric maps.
+     *
+     * @param out Vector to store the sample
+     * @return The out vector.
+     */
+    static Vector2 toDisk(float sx, float sy, Vector2 out) {
+        final var x = 2 * sx - 1.0f;
+        final var y = 2 * sy - 1.0f;
+        float r;
+        float phi;
+
+        if (x > -y) {               //Sector 1
+            if (x > y) {
+                r = x;
+                phi = y / x;
+            } else {                //Sector 2
+                r = y;
+                phi = 2 - x / y;
+            }
+        } else {
+            if (x < y) {            //Sector 3
+                r = -x;
+                phi = 4 + y / x;
+            } else {                //Sector 4
+                r = -y;
+                phi = y != 0.0f ? 6 - x / y : 0.0f;
+            }
+        }
+        phi *= PI / 4.0f;
+        return out.set((float) (r * cos(phi)), (float) (r * sin(phi)));
+    }
+
+    /**
+     * Maps a sample of the unit square to the hemisphere around the z axis, with a cosine power distribution.
+     *
+     * @param e   The exponent of the cosine distribution.
+     * @param out Vector to store the sample
+     * @return The out vector.
+     */
+    static Vector3 toHemisphere(float sx, float sy, float e, Vector3 out) {
+        final var cosPhi = (float) cos(2.0 * PI * sx);
+        final var sinPhi = (float) sin(2.0 * PI * sx);
+        final var cosTheta = (float) pow(1.0 - sy, 1.0 / (e + 1.0));
+        final var sinTheta = (float) sqrt(1.0 - cosTheta * cosTheta);
+        return out.set(sinTheta * cosPhi, sinTheta * sinPhi, cosTheta);
+    }
+
+    /**
+     * Creates a table with the same samples, but mapped to a hemisphere with a different cosine power.
+     *
+     * @param e The exponent of the cosine distribution.
+     * @return The new table, or this table if the exponent is the same.
+     */
+    public SampleTable withHemisphereExp(float e) {
+        return e == hemisphereExp ? this : new SampleTable(this, e);
+    }
+
+    /**
+     * Returns the index of the nth sample of the given set, following the set shuffled order.
+     */
+    int indexOf(int set, int n) {
+        final var jump = set * numSamples;
+        return jump + shuffledIndices[jump + n];
+    }
+
+    Vector2 getSquare(int index, Vector2 out) {
+        return out.set(samples[2 * index], samples[2 * index + 1]);
+    }
+
+    Vector2 getDisk(int index, Vector2 out) {
+        return out.set(diskSamples[2 * index], diskSamples[2 * index + 1]);
+    }
+
+    Vector3 getHemisphere(int index, Vector3 out) {
+        return out.set(hemisphereSamples[3 * index], hemisphereSamples[3 * index + 1], hemisphereSamples[3 * index + 2]);
+    }
+
+    public int getNumSamples() {
+        return numSamples;
+    }
+
+    public int getNumSets() {
+        return numSets;
+    }
+}
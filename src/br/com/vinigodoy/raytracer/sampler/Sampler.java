@@ -13,44 +13,70 @@ package br.com.vinigodoy.raytracer.sampler;
 import br.com.vinigodoy.raytracer.math.Vector2;
 import br.com.vinigodoy.raytracer.math.Vector3;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.io.Serial;
+import java.io.Serializable;
 
-import static br.com.vinigodoy.raytracer.utility.Rnd.rndInt;
-import static java.lang.Math.*;
+import static java.lang.Math.max;
+import static java.lang.Math.sqrt;
 
 /**
  * Generate several sample sets of a given sample type. Also, contains methods to map samples into a disk and a
  * hemisphere.
+ * <p>
+ * The sample sets are kept in an immutable {@link SampleTable}, while each thread reads them through its own cursor.
+ * So, a single sampler can be used by all render threads without locks.
+ * <p>
+ * Samplers created over a {@link SampleSequence} store no sets at all: each sample is calculated when it's read, and
+ * each set of samples is the sequence with a new random seed.
  */
-public final class Sampler implements Cloneable {
-    public static final int DEFAULT_NUM_SETS = 83;
+public final class Sampler implements Cloneable, Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
 
-    private final List<Vector2> samples;
-    private List<Vector2> diskSamples;
-    private List<Vector3> hemisphereSamples;
+    public static final int DEFAULT_NUM_SETS = 83;
 
-    private final List<Integer> shuffledIndices = new ArrayList<>();
     private final Sample sample;
+    private volatile SampleTable table;
+
+    private final SampleSequence sequence;
     private final int numSamples;
-    private final int numSets;
+    private volatile float hemisphereExp = 1.0f;
 
-    private int count = 0;
-    private int jump = 0;
+    private final transient ThreadLocal<SampleCursor> cursor = ThreadLocal.withInitial(SampleCursor::new);
 
     public Sampler(Sample sample, int numSamples, int numSets) {
-        this.samples = new ArrayList<>(numSets * numSamples);
-        this.sample = sample;
-        this.numSamples = numSamples <= 0 ? 1 : numSamples;
-        this.numSets = numSets <= 0 ? 1 : numSets;
-        createSamples(numSamples, numSets);
+        this(sample, new SampleTable(sample, numSamples, numSets));
     }
 
     public Sampler(Sample sample, int numSamples) {
         this(sample, numSamples, DEFAULT_NUM_SETS);
     }
 
+    /**
+     * Creates a sampler that calculates its samples on demand.
+     *
+     * @param sequence   The sample sequence
+     * @param numSamples Number of samples in each set, that is, read by each pixel.
+     */
+    public Sampler(SampleSequence sequence, int numSamples) {
+        this(sequence, max(numSamples, 1), 1.0f);
+    }
+
+    private Sampler(Sample sample, SampleTable table) {
+        this.sample = sample;
+        this.table = table;
+        this.sequence = null;
+        this.numSamples = table.getNumSamples();
+    }
+
+    private Sampler(SampleSequence sequence, int numSamples, float hemisphereExp) {
+        this.sample = null;
+        this.table = null;
+        this.sequence = sequence;
+        this.numSamples = numSamples;
+        this.hemisphereExp = hemisphereExp;
+    }
+
     public static Sampler newDefault(int numSamples) {
         numSamples = max(numSamples, 1);
 
@@ -63,111 +89,135 @@ public final class Sampler implements Cloneable {
         return new Sampler(sample, numSamples);
     }
 
-    private void createSamples(int numSamples, int numSets) {
-        samples.clear();
-        for (var j = 0; j < numSets; j++)
-            samples.addAll(sample.createSamples(numSamples));
-        shuffleIndices();
+    /**
+     * Reads the next sample in the unit square.
+     *
+     * @param out Vector to store the sample
+     * @return The out vector.
+     */
+    public Vector2 nextSampleSquare(Vector2 out) {
+        final var table = this.table;
+        if (table == null) return nextInSequence(out);
+        return table.getSquare(cursor.get().next(table), out);
     }
 
-    private void shuffleIndices() {
-        shuffledIndices.clear();
-        final var indices = new ArrayList<Integer>();
-        for (var i = 0; i < numSamples; i++)
-            indices.add(i);
-
-        for (var i = 0; i < numSets; i++) {
-            Collections.shuffle(indices);
-            shuffledIndices.addAll(indices);
+    /**
+     * Reads the next sample mapped to the unit disk.
+     *
+     * @param out Vector to store the sample
+     * @return The out vector.
+     */
+    public Vector2 nextSampleDisk(Vector2 out) {
+        final var table = this.table;
+        if (table == null) {
+            nextInSequence(out);
+            return SampleTable.toDisk(out.getX(), out.getY(), out);
         }
+        return table.getDisk(cursor.get().next(table), out);
     }
 
-    public Vector2 nextSampleSquare() {
-        if (count % numSamples == 0) {
-            jump = rndInt(numSets) * numSamples;
+    /**
+     * Reads the next sample mapped to the hemisphere around the z axis.
+     *
+     * @param out Vector to store the sample
+     * @return The out vector.
+     */
+    public Vector3 nextSampleHemisphere(Vector3 out) {
+        final var table = this.table;
+        final var cursor = this.cursor.get();
+        if (table == null) {
+            final var sp = nextInSequence(cursor, cursor.point());
+            return SampleTable.toHemisphere(sp.getX(), sp.getY(), hemisphereExp, out);
         }
-
-        return samples.get(jump + shuffledIndices.get(jump + (count++ % numSamples)));
+        return table.getHemisphere(cursor.next(table), out);
     }
 
-    public Vector2 nextSampleDisk() {
-        if (diskSamples == null)
-            mapToDisk();
-
-        if (count % numSamples == 0) {
-            jump = rndInt(numSets) * numSamples;
-        }
+    private Vector2 nextInSequence(Vector2 out) {
+        return nextInSequence(cursor.get(), out);
+    }
 
-        return diskSamples.get(jump + shuffledIndices.get(jump + (count++ % numSamples)));
+    private Vector2 nextInSequence(SampleCursor cursor, Vector2 out) {
+        final var index = cursor.next(numSamples);
+        return sequence.getSample(index, cursor.seed(), out);
     }
 
-    public Vector3 nextSampleHemisphere() {
-        if (hemisphereSamples == null)
-            mapToHemisphere(1.0f);
+    /**
+     * Makes the next sample of the calling thread start a new random set. Code that reads samples in sequence and may
+     * take fewer samples than a full set calls this first, so each run starts at the beginning of a set.
+     */
+    public void startPixel() {
+        cursor.get().reset();
+    }
 
-        if (count % numSamples == 0) {
-            jump = rndInt(numSets) * numSamples;
-        }
+    /**
+     * Makes all samplers read the nth sample of the given pixel, in the calling thread, until
+     * {@link #endPixelSamples()} is called. Cameras call this before each sample, instead of reading the samples in
+     * sequence. This way, the samples each pixel takes from a sampler come from a single, well distributed set, even
+     * if they're taken in separate passes, and depend only on the seed and the pixel, not on the thread tracing it.
+     *
+     * @param seed  Render seed
+     * @param pixel Pixel index
+     * @param n     Sample number, starting at 0.
+     */
+    public static void startPixelSample(long seed, int pixel, int n) {
+        PixelSample.current().start(seed, pixel, n);
+    }
 
-        return hemisphereSamples.get(jump + shuffledIndices.get(jump + (count++ % numSamples)));
+    /**
+     * Makes the samplers read their samples in sequence again, in the calling thread.
+     */
+    public static void endPixelSamples() {
+        PixelSample.current().end();
     }
 
     public int getNumSamples() {
         return numSamples;
     }
 
-    private int getNumSets() {
-        return numSets;
+    /**
+     * @return The sample algorithm, or null if this sampler uses a sample sequence.
+     */
+    public Sample getSample() {
+        return sample;
     }
 
     /**
-     * Maps the sample configuration of this samples to a disk.
+     * @return The sample table, or null if this sampler uses a sample sequence.
      */
-    private void mapToDisk() {
-        diskSamples = new ArrayList<>(samples.size());
-        float r;
-        float phi;
-
-        for (var sample : samples) {
-            final var sp = new Vector2(2 * sample.getX() - 1.0f, 2 * sample.getY() - 1.0f);
-
-            if (sp.getX() > -sp.getY()) {               //Sector 1
-                if (sp.getX() > sp.getY()) {
-                    r = sp.getX();
-                    phi = sp.getY() / sp.getX();
-                } else {                                //Sector 2
-                    r = sp.getY();
-                    phi = 2 - sp.getX() / sp.getY();
-                }
-            } else {
-                if (sp.getX() < sp.getY()) {            //Sector 3
-                    r = -sp.getX();
-                    phi = 4 + sp.getY() / sp.getX();
-                } else {                                //Sector 4
-                    r = -sp.getY();
-                    phi = sp.getY() != 0.0f ? 6 - sp.getX() / sp.getY() : 0.0f;
-                }
-            }
-            phi *= PI / 4.0f;
-            diskSamples.add(new Vector2((float) (r * cos(phi)), (float) (r * sin(phi))));
-        }
+    public SampleTable getTable() {
+        return table;
+    }
+
+    /**
+     * @return The sample sequence, or null if this sampler uses a sample table.
+     */
+    public SampleSequence getSequence() {
+        return sequence;
     }
 
+    /**
+     * Changes the cosine power used to map the samples to the hemisphere.
+     *
+     * @param e The exponent of the cosine distribution. Default is 1.
+     */
     public void mapToHemisphere(float e) {
-        hemisphereSamples = new ArrayList<>(samples.size());
-        for (var sample : samples) {
-            final var cosPhi = (float) cos(2.0 * PI * sample.getX());
-            final var sinPhi = (float) sin(2.0 * PI * sample.getX());
-            final var cosTheta = (float) pow(1.0 - sample.getY(), 1.0 / (e + 1.0));
-            final var sinTheta = (float) sqrt(1.0 - cosTheta * cosTheta);
-            final var pu = sinTheta * cosPhi;
-            final var pv = sinTheta * sinPhi;
-            hemisphereSamples.add(new Vector3(pu, pv, cosTheta));
-        }
+        if (table == null) hemisphereExp = e;
+        else table = table.withHemisphereExp(e);
     }
 
+    /**
+     * Creates a sampler that shares the sample table or sequence of this one, but with its own cursors.
+     */
     @Override
     public Sampler clone() {
-        return new Sampler(sample, numSamples, numSets);
+        return table == null ? new Sampler(sequence, numSamples, hemisphereExp) : new Sampler(sample, table);
+    }
+
+    /**
+     * Cursors belong to the threads of this process, so a deserialized sampler gets new ones.
+     */
+    @Serial
+    private Object readResolve() {
+        return clone();
     }
 }
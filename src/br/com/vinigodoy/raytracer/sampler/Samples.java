@@ -11,12 +11,8 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 
 package br.com.vinigodoy.raytracer.sampler;
 
-import br.com.vinigodoy.raytracer.math.Vector2;
 import br.com.vinigodoy.raytracer.utility.RaytraceException;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static br.com.vinigodoy.raytracer.utility.Rnd.rndFloat;
 import static br.com.vinigodoy.raytracer.utility.Rnd.rndInt;
 
@@ -30,11 +26,14 @@ public enum Samples implements Sample {
      */
     Regular {
         @Override
-        protected void fillSamples(List<Vector2> samples, int numSamples) {
+        protected void fillSamples(float[] samples, int numSamples) {
             final var n = (int) Math.sqrt(numSamples);
+            var i = 0;
             for (var p = 0; p < n; p++)
-                for (var q = 0; q < n; q++)
-                    samples.add(new Vector2((q + 0.5f) / n, (p + 0.5f) / n));
+                for (var q = 0; q < n; q++) {
+                    samples[i++] = (q + 0.5f) / n;
+                    samples[i++] = (p + 0.5f) / n;
+                }
         }
     },
     /**
@@ -55,9 +54,10 @@ public enum Samples implements Sample {
         }
 
         @Override
-        protected void fillSamples(List<Vector2> samples, int numSamples) {
+        protected void fillSamples(float[] samples, int numSamples) {
             for (var j = 0; j < numSamples; j++) {
-                samples.add(new Vector2((float) j / numSamples, phi(j)));
+                samples[2 * j] = (float) j / numSamples;
+                samples[2 * j + 1] = phi(j);
             }
         }
     },
@@ -66,9 +66,9 @@ public enum Samples implements Sample {
      */
     Random {
         @Override
-        protected void fillSamples(List<Vector2> samples, int numSamples) {
-            for (var i = 0; i < numSamples; i++)
-                samples.add(new Vector2(rndFloat(), rndFloat()));
+        protected void fillSamples(float[] samples, int numSamples) {
+            for (var i = 0; i < numSamples * 2; i++)
+                samples[i] = rndFloat();
         }
     },
     /**
@@ -79,12 +79,14 @@ public enum Samples implements Sample {
      */
     Jittered {
         @Override
-        protected void fillSamples(List<Vector2> samples, int numSamples) {
+        protected void fillSamples(float[] samples, int numSamples) {
             final var n = (int) Math.sqrt(numSamples);
 
+            var i = 0;
             for (var j = 0; j < n; j++)
                 for (var k = 0; k < n; k++) {
-                    samples.add(new Vector2((k + rndFloat()) / n, (j + rndFloat()) / n));
+                    samples[i++] = (k + rndFloat()) / n;
+                    samples[i++] = (j + rndFloat()) / n;
                 }
         }
     },
@@ -93,29 +95,23 @@ public enum Samples implements Sample {
      */
     NRooks {
         @Override
-        protected void fillSamples(List<Vector2> samples, int numSamples) {
+        protected void fillSamples(float[] samples, int numSamples) {
             //Create samples satisfying the n-rooks condition
             for (var j = 0; j < numSamples; j++) {
-                samples.add(new Vector2((j + rndFloat()) / numSamples, (j + rndFloat()) / numSamples));
+                samples[2 * j] = (j + rndFloat()) / numSamples;
+                samples[2 * j + 1] = (j + rndFloat()) / numSamples;
             }
 
             //Shuffle x coordinates
             for (var i = 0; i < numSamples - 1; i++) {
                 final var max = numSamples - 1 - i;
-                final var ind = rndInt(max);
-                final var temp = samples.get(max).getX();
-                samples.get(max).setX(samples.get(ind).getX());
-                samples.get(ind).setX(temp);
-
+                swap(samples, 2 * max, 2 * rndInt(max));
             }
 
             ////Shuffle y coordinates
             for (var i = 0; i < numSamples - 1; i++) {
                 final var max = numSamples - 1 - i;
-                final var ind = rndInt(max);
-                final var temp = samples.get(max).getY();
-                samples.get(max).setY(samples.get(ind).getY());
-                samples.get(ind).setY(temp);
+                swap(samples, 2 * max + 1, 2 * rndInt(max) + 1);
             }
         }
     },
@@ -125,7 +121,7 @@ public enum Samples implements Sample {
      */
     MultiJittered {
         @Override
-        protected void fillSamples(List<Vector2> samples, int numSamples) {
+        protected void fillSamples(float[] samples, int numSamples) {
             final var n = (int) Math.sqrt((float) numSamples);
 
             if (n * n != numSamples) {
@@ -135,52 +131,46 @@ public enum Samples implements Sample {
 
             final var subcellWidth = 1.0f / ((float) numSamples);
 
-            // fill the samples array with dummy points
-            for (var j = 0; j < numSamples; j++)
-                samples.add(new Vector2());
-
             // distribute points in the initial patterns
             for (var i = 0; i < n; i++)
                 for (var j = 0; j < n; j++) {
-                    samples.get(i * n + j).setX((i * n + j) * subcellWidth + rndFloat(0.0f, subcellWidth));
-                    samples.get(i * n + j).setY((j * n + i) * subcellWidth + rndFloat(0.0f, subcellWidth));
+                    samples[2 * (i * n + j)] = (i * n + j) * subcellWidth + rndFloat(0.0f, subcellWidth);
+                    samples[2 * (i * n + j) + 1] = (j * n + i) * subcellWidth + rndFloat(0.0f, subcellWidth);
                 }
 
             // shuffle x coordinates
             for (var i = 0; i < n; i++)
                 for (var j = 0; j < n; j++) {
                     final var k = rndInt(j, n - 1);
-                    final var t = samples.get(i * n + j).getX();
-                    samples.get(i * n + j).setX(samples.get(i * n + k).getX());
-                    samples.get(i * n + k).setX(t);
+                    swap(samples, 2 * (i * n + j), 2 * (i * n + k));
                 }
 
             // shuffle y coordinates
             for (var i = 0; i < n; i++)
                 for (var j = 0; j < n; j++) {
                     final var k = rndInt(j, n - 1);
-                    final var t = samples.get(i * n + j).getY();
-                    samples.get(i * n + j).setY(samples.get(i * n + k).getY());
-                    samples.get(i * n + k).setY(t);
+                    swap(samples, 2 * (i * n + j) + 1, 2 * (i * n + k) + 1);
                 }
         }
     };
 
-    protected List<Vector2> createList(int numSamples) {
-        if (numSamples < 0)
-            throw new IllegalArgumentException("Number of samples cannot be smaller than zero! numSamples=" + numSamples);
-        return new ArrayList<>(numSamples);
-
+    private static void swap(float[] samples, int i, int j) {
+        final var temp = samples[i];
+        samples[i] = samples[j];
+        samples[j] = temp;
     }
 
     @Override
-    public List<Vector2> createSamples(int numSamples) {
+    public float[] createSamples(int numSamples) {
         if (numSamples < 1)
             throw new RaytraceException("Number of samples cannot be smaller than one! numSamples = %d", numSamples);
-        final var samples = new ArrayList<Vector2>(numSamples);
+        final var samples = new float[numSamples * 2];
         fillSamples(samples, numSamples);
         return samples;
     }
 
-    protected abstract void fillSamples(List<Vector2> samples, int numSamples);
+    /**
+     * Fills the samples array with numSamples samples, packed in x, y pairs.
+     */
+    protected abstract void fillSamples(float[] samples, int numSamples);
 }
@@ -0,0 +1,124 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.sampler;
+
+import br.com.vinigodoy.raytracer.math.Vector2;
+
+/**
+ * Enumeration of the default low discrepancy sequences. Both are randomized by Owen scrambling, which keeps their
+ * stratification while making the points of each seed independent.
+ */
+public enum Sequences implements SampleSequence {
+    /**
+     * The first two dimensions of the Sobol sequence, in base 2. The index is shuffled and each dimension scrambled
+     * with hashes of the seed, as proposed by Burley in "Practical Hash-based Owen Scrambling". Any power of two prefix
+     * of the sequence is perfectly stratified.
+     */
+    Sobol {
+        @Override
+        public Vector2 getSample(int index, int seed, Vector2 out) {
+            final var i = scramble(index, hash(seed));
+            final var x = Integer.reverse(permute(i, hash(seed ^ 0x5bd1e995)));
+            final var y = scramble(sobol2(i), hash(seed ^ 0x27d4eb2f));
+            return out.set(toFloat(x), toFloat(y));
+        }
+    },
+    /**
+     * The Halton sequence in bases 2 and 3. Each digit of each base is scrambled by a random permutation that depends
+     * on the seed and on the previous digits, that is, by Owen scrambling.
+     */
+    Halton {
+        private static final int BASE3_DIGITS = 20;  //3^20 > 2^31
+
+        @Override
+        public Vector2 getSample(int index, int seed, Vector2 out) {
+            final var x = Integer.reverse(permute(index, hash(seed ^ 0x5bd1e995)));
+            return out.set(toFloat(x), base3(index, hash(seed ^ 0x27d4eb2f)));
+        }
+
+        /**
+         * Owen scrambled radical inverse in base 3. The digits of the index are read from the least significant one,
+         * and each is replaced through one of the six permutations of {0, 1, 2}, picked by hashing the seed with the
+         * digits already read. All digits are scrambled, including the leading zeros of the index.
+         */
+        private float base3(int index, int seed) {
+            var n = Integer.toUnsignedLong(index);
+            var prefix = 0L;
+            var result = 0.0;
+            var f = 1.0 / 3.0;
+            for (var k = 0; k < BASE3_DIGITS; k++) {
+                final var digit = (int) (n % 3);
+                n /= 3;
+
+                final var h = hash(seed ^ hash((int) prefix ^ k * 0x9E3779B9));
+                result += f * permute3(digit, Integer.remainderUnsigned(h, 6));
+                prefix = prefix * 3 + digit;
+                f /= 3.0;
+            }
+            return (float) Math.min(result, ONE_MINUS_EPSILON);
+        }
+
+        private int permute3(int digit, int permutation) {
+            //Each permutation is a rotation, optionally mirrored
+            final var d = permutation >= 3 ? 2 - digit : digit;
+            return (d + permutation) % 3;
+        }
+    };
+
+    private static final float ONE_MINUS_EPSILON = Math.nextDown(1.0f);
+
+    /**
+     * Second dimension of the Sobol sequence, as a binary fraction: the most significant bit is the first digit. The
+     * first dimension is simply the index with its bits reversed.
+     */
+    static int sobol2(int index) {
+        var result = 0;
+        for (var v = 1 << 31; index != 0; index >>>= 1, v ^= v >>> 1) {
+            if ((index & 1) != 0) result ^= v;
+        }
+        return result;
+    }
+
+    /**
+     * Owen scrambling of a number whose bits are in radical inverse order, that is, with the most significant bit as
+     * the first digit. Each bit is flipped depending only on the seed and on the more significant bits.
+     */
+    static int scramble(int x, int seed) {
+        return Integer.reverse(permute(Integer.reverse(x), seed));
+    }
+
+    /**
+     * Laine-Karras permutation: each bit of x is flipped depending only on the seed and on the less significant bits.
+     * Owen scrambling of the radical inverse of an index is this permutation of the index, reversed.
+     */
+    static int permute(int x, int seed) {
+        x ^= x * 0x3d20adea;
+        x += seed;
+        x *= (seed >>> 16) | 1;
+        x ^= x * 0x05526c56;
+        x ^= x * 0x53a22864;
+        return x;
+    }
+
+    static int hash(int x) {
+        x ^= x >>> 16;
+        x *= 0x21f0aaad;
+        x ^= x >>> 15;
+        x *= 0x735a2d97;
+        x ^= x >>> 15;
+        return x;
+    }
+
+    static float toFloat(int bits) {
+        return (bits >>> 8) * 0x1p-24f;
+    }
+}
@@ -0,0 +1,43 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.scene;
+
+/**
+ * Adaptive sampling settings. Each pixel is traced in batches of samples, until the estimated error of its mean
+ * luminance falls below the maximum error, or until all samples of the view plane sampler are taken. Flat regions
+ * stop after the first batch, while edges and soft shadows get all samples.
+ * <p>
+ * The error is the standard error of the mean of the sample luminances, clamped to the [0,1] display range.
+ *
+ * @param minSamples Size of each batch of samples. Pixels take at least this number of samples.
+ * @param maxError   Maximum standard error of the pixel luminance, in the [0,1] range.
+ */
+public record AdaptiveSampling(int minSamples, float maxError) {
+    public AdaptiveSampling {
+        if (minSamples < 2)
+            throw new IllegalArgumentException("At least two samples are needed to estimate the error! minSamples="
+                    + minSamples);
+        if (!(maxError > 0))
+            throw new IllegalArgumentException("Maximum error must be positive! maxError=" + maxError);
+    }
+
+    /**
+     * Test if a pixel already has enough samples.
+     *
+     * @param count    Number of samples taken
+     * @param variance Sum of the squared differences between the sample luminances and their mean.
+     * @return True if the standard error of the mean is within the maximum error.
+     */
+    public boolean isConverged(int count, double variance) {
+        return count >= minSamples && Math.sqrt(variance / (count - 1) / count) <= maxError;
+    }
+}
@@ -0,0 +1,44 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.scene;
+
+/**
+ * Progressive rendering settings. The whole view plane is traced with one sample per pixel, and then again and again,
+ * each pass adding one more sample to every pixel. The sum of all passes is kept in a float accumulation buffer, and
+ * the averaged frame is sent to the world listeners after each pass, so a noisy but complete image shows up right
+ * away and keeps being refined.
+ * <p>
+ * The render stops after the pass that reaches the maximum number of samples or that exceeds the time budget, so it
+ * can be stopped at any pass boundary.
+ *
+ * @param maxSamples Maximum number of passes, that is, of samples per pixel.
+ * @param timeBudget Render time budget, in milliseconds. Use 0 for no time limit.
+ */
+public record ProgressiveRendering(int maxSamples, long timeBudget) {
+    public ProgressiveRendering {
+        if (maxSamples < 1)
+            throw new IllegalArgumentException("At least one sample is needed! maxSamples=" + maxSamples);
+        if (timeBudget < 0)
+            throw new IllegalArgumentException("Time budget can't be negative! timeBudget=" + timeBudget);
+    }
+
+    /**
+     * Test if the render is done.
+     *
+     * @param samples     Number of passes already traced.
+     * @param elapsedTime Time since the render started, in milliseconds.
+     * @return True if no more passes should be traced.
+     */
+    public boolean isFinished(int samples, long elapsedTime) {
+        return samples >= maxSamples || (timeBudget > 0 && elapsedTime >= timeBudget);
+    }
+}
@@ -0,0 +1,297 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.scene;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * Checkpoint of a long render. While rendering, the camera periodically saves the render state to a file: the colors
+ * of the finished tiles and the map of which tiles are finished or, in progressive renders, the sums of the samples
+ * and the number of finished passes. A render of the same scene, with the same settings, resumes from that file
+ * instead of starting over.
+ * <p>
+ * The samples of each pixel depend only on the scene, the view plane seed and the pixel, so a resumed render gives
+ * the very same image as an uninterrupted one. The key must identify the scene and anything else that changes the
+ * pixels, such as the sampler (see {@link SceneCache#hash(World, Serializable...)}). The file also records the view
+ * plane size, tile size, number of samples, gamma and seed. A file that doesn't match the key or the view plane is
+ * ignored.
+ * <p>
+ * Files are written aside and moved over the old ones, so a render killed while saving keeps its last checkpoint. The
+ * checkpoint is saved when the render is stopped, and deleted once the render is complete.
+ */
+public final class RenderCheckpoint {
+    /**
+     * Format version. Must be increased whenever the file layout changes.
+     */
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x52544350;   //RTCP
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final String key;
+    private final long interval;
+
+    private ByteBuffer settings;
+    private float[] buffer;
+    private BitSet tiles;
+    private int passes;
+    private boolean resumed;
+    private int saves;
+    private long lastSave;
+
+    /**
+     * Creates a checkpoint.
+     *
+     * @param path     The checkpoint file.
+     * @param key      Identifies the scene and the render settings.
+     * @param interval Minimum time between saves, in milliseconds. Use 0 to save only when the render is stopped.
+     */
+    public RenderCheckpoint(Path path, String key, long interval) {
+        if (interval < 0)
+            throw new IllegalArgumentException("Checkpoint interval can't be negative! interval=" + interval);
+        this.path = path;
+        this.key = key;
+        this.interval = interval;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    /**
+     * Starts a render. If the checkpoint file matches the view plane, the render state is loaded from it. Otherwise,
+     * the render starts over. Called by the camera.
+     *
+     * @param vp The view plane being rendered.
+     * @return The render buffer, with 3 floats for each pixel, in rows from top to bottom. Contains the traced colors,
+     * or the sums of the samples if the render is progressive.
+     * @throws IOException If the checkpoint file could not be read.
+     */
+    public synchronized float[] open(ViewPlane vp) throws IOException {
+        final var tileCount = vp.getTilesX() * vp.getTilesY();
+        final var adaptive = vp.getAdaptiveSampling();
+        final var keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        settings = ByteBuffer.allocate(57 + keyBytes.length)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(keyBytes.length).put(keyBytes)
+                .putInt(vp.getHRes())
+                .putInt(vp.getVRes())
+                .putInt(vp.getTileSize())
+                .putInt(vp.getSampler().getNumSamples())
+                .putFloat(vp.getGamma())
+                .putLong(vp.getSeed())
+                .put((byte) (vp.getProgressiveRendering() != null ? 1 : 0))
+                .putInt(adaptive == null ? 0 : adaptive.minSamples())
+                .putFloat(adaptive == null ? 0 : adaptive.maxError())
+                .putInt(tileCount)
+                .flip();
+
+        final var length = vp.getHRes() * vp.getVRes() * 3;
+        resumed = load(length, tileCount);
+        if (!resumed) {
+            buffer = new float[length];
+            tiles = new BitSet(tileCount);
+            passes = 0;
+        }
+        saves = 0;
+        lastSave = System.currentTimeMillis();
+        return buffer;
+    }
+
+    private boolean load(int length, int tileCount) throws IOException {
+        if (!Files.isRegularFile(path)) return false;
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (in.limit() < settings.limit() || !in.slice(0, settings.limit()).equals(settings)) return false;
+            in.position(settings.limit());
+
+            final var savedPasses = in.getInt();
+            final var words = new long[in.getInt()];
+            if (words.length > (tileCount + 63) / 64) return false;
+            for (var i = 0; i < words.length; i++) words[i] = in.getLong();
+            if (in.getInt() != length) return false;
+
+            final var floats = new float[length];
+            in.asFloatBuffer().get(floats);
+
+            buffer = floats;
+            tiles = BitSet.valueOf(words);
+            passes = savedPasses;
+            return true;
+        } catch (BufferUnderflowException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the view plane seed stored in a checkpoint file, so an interrupted render can be restarted without asking
+     * for its seed again. The scene must be built with the same seed for the render to resume.
+     *
+     * @param path        The checkpoint file.
+     * @param defaultSeed Seed returned if there's no valid checkpoint file.
+     * @return The stored seed, or the default seed.
+     * @throws IOException If the file could not be read.
+     */
+    public static long readSeed(Path path, long defaultSeed) throws IOException {
+        if (!Files.isRegularFile(path)) return defaultSeed;
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (in.getInt() != MAGIC || in.getInt() != VERSION) return defaultSeed;
+            //Skips the key, the view plane size, tile size, samples and gamma
+            final var keyLength = in.getInt();
+            in.position(in.position() + keyLength + 20);
+            return in.getLong();
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return defaultSeed;
+        }
+    }
+
+    /**
+     * @return True if the last render was resumed from the checkpoint file.
+     */
+    public boolean isResumed() {
+        return resumed;
+    }
+
+    /**
+     * @return The number of times the checkpoint was saved by the last render.
+     */
+    public int getSaveCount() {
+        return saves;
+    }
+
+    /**
+     * @return The render buffer, as returned by {@link #open(ViewPlane)}.
+     */
+    public float[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * @return Number of finished progressive passes.
+     */
+    public synchronized int getPasses() {
+        return passes;
+    }
+
+    /**
+     * Counts a finished progressive pass.
+     */
+    public synchronized void nextPass() {
+        passes++;
+        tiles.clear();
+    }
+
+    /**
+     * @param tile Tile index, as x + y * tilesX.
+     * @return True if the tile is finished.
+     */
+    public synchronized boolean isTileDone(int tile) {
+        return tiles.get(tile);
+    }
+
+    /**
+     * Marks a tile as finished. Its colors must be in the buffer before the next save.
+     *
+     * @param tile Tile index, as x + y * tilesX.
+     */
+    public synchronized void setTileDone(int tile) {
+        tiles.set(tile);
+    }
+
+    /**
+     * Saves the checkpoint if the interval has passed since the last save. The buffer must not be changed meanwhile.
+     *
+     * @return True if the checkpoint was saved.
+     * @throws IOException If the file could not be written.
+     */
+    public synchronized boolean saveIfDue() throws IOException {
+        if (interval == 0 || System.currentTimeMillis() - lastSave < interval) return false;
+        save();
+        return true;
+    }
+
+    /**
+     * Saves the checkpoint. The buffer must not be changed meanwhile.
+     *
+     * @throws IOException If the file could not be written.
+     */
+    public synchronized void save() throws IOException {
+        final var words = tiles.toLongArray();
+        final var header = ByteBuffer.allocate(settings.limit() + 12 + words.length * Long.BYTES)
+                .put(settings.duplicate())
+                .putInt(passes)
+                .putInt(words.length);
+        for (var word : words) header.putLong(word);
+        header.putInt(buffer.length).flip();
+
+        final var dir = path.toAbsolutePath().getParent();
+        final var temp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+        try {
+            try (var channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                writeFully(channel, header);
+
+                final var bytes = ByteBuffer.allocateDirect(CHUNK_SIZE * Float.BYTES);
+                final var floats = bytes.asFloatBuffer();
+                for (var i = 0; i < buffer.length; i += CHUNK_SIZE) {
+                    final var count = Math.min(CHUNK_SIZE, buffer.length - i);
+                    floats.clear();
+                    floats.put(buffer, i, count);
+                    bytes.clear().limit(count * Float.BYTES);
+                    writeFully(channel, bytes);
+                }
+                //Make sure the data is on disk before it replaces the last checkpoint
+                channel.force(false);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        saves++;
+        lastSave = System.currentTimeMillis();
+    }
+
+    /**
+     * Deletes the checkpoint file. Called by the camera once the render is complete.
+     *
+     * @throws IOException If the file could not be deleted.
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+}
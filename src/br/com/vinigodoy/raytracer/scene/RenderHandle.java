@@ -0,0 +1,122 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.scene;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A render in progress, returned by {@link World#render(ViewPlane)}. Like a future, it can be used to wait for the
+ * render to end, or to cancel it.
+ * <p>
+ * Cancellation is cooperative: the camera checks the handle before each tile, or before each pixel when tracing
+ * sequentially, and stops as soon as it is cancelled or its time budget runs out. What was already sent to the listeners
+ * is kept, and they are still told that the trace finished.
+ */
+public final class RenderHandle {
+    private final long deadline;
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    private volatile boolean cancelled;
+    private volatile long renderTime = -1;
+    private volatile Throwable failure;
+
+    /**
+     * Creates a handle for a render starting now.
+     *
+     * @param timeBudget Wall-clock time budget, in milliseconds. Use 0 for no time limit.
+     */
+    public RenderHandle(long timeBudget) {
+        if (timeBudget < 0)
+            throw new IllegalArgumentException("Time budget can't be negative! timeBudget=" + timeBudget);
+        this.deadline = timeBudget == 0 ? Long.MAX_VALUE :
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudget);
+    }
+
+    /**
+     * Asks the render to stop. The render ends at the next tile, so call {@link #await()} to wait for it.
+     *
+     * @return False if the render had already ended.
+     */
+    public boolean cancel() {
+        cancelled = true;
+        return !isDone();
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return True if the time budget ran out.
+     */
+    public boolean isExpired() {
+        return deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0;
+    }
+
+    /**
+     * Tells if the render should stop. Called by the cameras before each tile.
+     *
+     * @return True if the render was cancelled or its time budget ran out.
+     */
+    public boolean isStopped() {
+        return cancelled || isExpired();
+    }
+
+    /**
+     * @return True if the render ended, either completely, stopped or due to an error.
+     */
+    public boolean isDone() {
+        return done.getCount() == 0;
+    }
+
+    /**
+     * Waits for the render to end.
+     *
+     * @return The render time, in milliseconds.
+     * @throws InterruptedException If the calling thread was interrupted while waiting.
+     * @throws IllegalStateException If the render failed. The error is the cause.
+     */
+    public long await() throws InterruptedException {
+        done.await();
+        return getRenderTime();
+    }
+
+    /**
+     * Waits for the render to end, up to the given time.
+     *
+     * @return True if the render ended, false if the time elapsed first.
+     * @throws InterruptedException If the calling thread was interrupted while waiting.
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        return done.await(timeout, unit);
+    }
+
+    /**
+     * @return The render time, in milliseconds, or -1 if the render did not end yet.
+     * @throws IllegalStateException If the render failed. The error is the cause.
+     */
+    public long getRenderTime() {
+        if (failure != null) throw new IllegalStateException("Render failed!", failure);
+        return renderTime;
+    }
+
+    void finish(long renderTime) {
+        this.renderTime = renderTime;
+        done.countDown();
+    }
+
+    void fail(Throwable failure) {
+        this.failure = failure;
+        done.countDown();
+    }
+}
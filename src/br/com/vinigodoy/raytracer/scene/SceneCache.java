@@ -0,0 +1,148 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.scene;
+
+import br.com.vinigodoy.raytracer.math.geometry.accel.BVH;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Binary scene cache. Stores a whole world (geometry, materials, lights, camera, sample sets and the prebuilt world
+ * hierarchy) in a single file, so it can be reopened without running the scene code again. Compounds and meshes build
+ * their own hierarchies when first hit, so those are not stored, and a world is stored the same before and after it
+ * was rendered.
+ * <p>
+ * The file starts with a magic number, the format version and a key describing how the scene was created (such as
+ * its name and number of samples). The world itself follows, serialized. A cache file with another version or key, or
+ * that can't be read back, is considered stale and ignored.
+ * <p>
+ * Serialized classes declare a fixed serialVersionUID, so compatible builds can share cache files. The format version
+ * must be increased whenever a serialized class changes its fields.
+ */
+public final class SceneCache {
+    /**
+     * Format version. Must be increased whenever the file layout or the fields of a serialized class change.
+     */
+    public static final int VERSION = 3;
+
+    private static final int MAGIC = 0x52545343;   //RTSC
+    private static final ObjectInputFilter FILTER =
+            ObjectInputFilter.Config.createFilter("br.com.vinigodoy.raytracer.**;java.base/*;!*");
+
+    private SceneCache() {
+    }
+
+    /**
+     * Writes the world to the cache file. The file is written aside and then moved over the old one, so an interrupted
+     * save never leaves a broken cache behind.
+     *
+     * @param path  The cache file.
+     * @param key   Describes how the scene was created.
+     * @param world The world to store. Build its hierarchy first, so it's stored too.
+     * @throws IOException If the file could not be written.
+     */
+    public static void save(Path path, String key, World world) throws IOException {
+        final var dir = path.toAbsolutePath().getParent();
+        final var temp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+        try {
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(key);
+
+                final var objects = new ObjectOutputStream(out);
+                objects.writeObject(world);
+                objects.flush();
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads a world from the cache file. The loaded world has no listeners.
+     *
+     * @param path The cache file.
+     * @param key  Describes how the scene was created. Must be the same key used to save it.
+     * @return The world, or null if there's no cache file or it is stale.
+     * @throws IOException If the file could not be read.
+     */
+    public static World load(Path path, String key) throws IOException {
+        if (!Files.isRegularFile(path)) return null;
+
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || !in.readUTF().equals(key)) return null;
+
+            final var objects = new ObjectInputStream(in);
+            objects.setObjectInputFilter(FILTER);
+            return (World) objects.readObject();
+        } catch (EOFException | ObjectStreamException | ClassNotFoundException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Hashes the world, as stored in the cache, along with any other serializable object that changes the render,
+     * such as the view plane sampler. Worlds built by the same code, with the same random seed, have the same hash,
+     * which can be used to check that a saved render belongs to the scene.
+     *
+     * @param world   The world. Build its hierarchy first, so it's hashed too.
+     * @param objects Other objects to hash.
+     * @return The SHA-256 of the serialized objects, in hexadecimal.
+     */
+    public static String hash(World world, Serializable... objects) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+            try (var out = new HashOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+                out.writeObject(world);
+                for (var object : objects) out.writeObject(object);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw new IllegalStateException("Unable to hash the world", e);
+        }
+    }
+
+    /**
+     * Serializes objects to be hashed. Hierarchy statistics are left out, since they hold the build time.
+     */
+    private static final class HashOutputStream extends ObjectOutputStream {
+        private HashOutputStream(OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            return obj instanceof BVH.Stats ? null : obj;
+        }
+    }
+}
@@ -17,13 +17,23 @@ import br.com.vinigodoy.raytracer.scene.order.DrawOrders;
 import br.com.vinigodoy.raytracer.scene.order.PixelArray;
 
 public class ViewPlane {
+    /**
+     * Default size of the tiles rendered in parallel.
+     */
+    public static final int DEFAULT_TILE_SIZE = 32;
+
     private final int hRes;
     private final int vRes;
     private final float s;
     private float gamma;
     private Sampler sampler;
     private DrawOrder drawOrder;
-
+    private int numThreads = 1;
+    private int tileSize = DEFAULT_TILE_SIZE;
+    private AdaptiveSampling adaptiveSampling;
+    private ProgressiveRendering progressiveRendering;
+    private RenderCheckpoint checkpoint;
+    private long seed;
 
     public ViewPlane(int hRes, int vRes, int numSamples) {
         this(hRes, vRes, 1.0f, numSamples);
@@ -78,10 +88,117 @@ public class ViewPlane {
         sampler = Sampler.newDefault(numSamples);
     }
 
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the render seed. The samples of each pixel are picked by hashing the seed with the pixel, so renders of the
+     * same scene with the same seed and settings give the same image, whatever the number of threads or the draw
+     * order. Scenes must also be built the same way, which requires seeding {@code Rnd} before creating them.
+     *
+     * @param seed The render seed. Default is 0.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return The adaptive sampling settings, or null if every pixel takes all samples of the sampler.
+     */
+    public AdaptiveSampling getAdaptiveSampling() {
+        return adaptiveSampling;
+    }
+
+    /**
+     * Enables adaptive sampling. The sampler number of samples becomes the maximum number of samples per pixel.
+     *
+     * @param adaptiveSampling The adaptive sampling settings, or null to disable it.
+     */
+    public void setAdaptiveSampling(AdaptiveSampling adaptiveSampling) {
+        this.adaptiveSampling = adaptiveSampling;
+    }
+
+    /**
+     * @return The progressive rendering settings, or null if each pixel is fully traced before the next one.
+     */
+    public ProgressiveRendering getProgressiveRendering() {
+        return progressiveRendering;
+    }
+
+    /**
+     * Enables progressive rendering. Each pass traces a single sample of every pixel, so adaptive sampling is not
+     * used in progressive renders.
+     *
+     * @param progressiveRendering The progressive rendering settings, or null to disable it.
+     */
+    public void setProgressiveRendering(ProgressiveRendering progressiveRendering) {
+        this.progressiveRendering = progressiveRendering;
+    }
+
+    /**
+     * @return The render checkpoint, or null if the render is not saved.
+     */
+    public RenderCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Enables checkpoints. The render state is periodically saved, and the render resumes from the checkpoint file
+     * if it matches this view plane. Renders with checkpoints are always traced in tiles, even with a single thread.
+     *
+     * @param checkpoint The checkpoint, or null to disable it.
+     */
+    public void setCheckpoint(RenderCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
     public PixelArray getPixels() {
         return drawOrder.getPixels(getHRes(), getVRes());
     }
 
+    /**
+     * Returns the tiles of this view plane, ordered by the draw order. Each pixel of the returned array is the
+     * coordinate of one tile, so the tile at (x, y) starts at pixel (x * tileSize, y * tileSize).
+     */
+    public PixelArray getTiles() {
+        return drawOrder.getPixels(getTilesX(), getTilesY());
+    }
+
+    public int getTilesX() {
+        return (hRes + tileSize - 1) / tileSize;
+    }
+
+    public int getTilesY() {
+        return (vRes + tileSize - 1) / tileSize;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public void setTileSize(int tileSize) {
+        if (tileSize < 1)
+            throw new IllegalArgumentException("Tile size must be positive! tileSize=" + tileSize);
+        this.tileSize = tileSize;
+    }
+
+    public int getNumThreads() {
+        return numThreads;
+    }
+
+    /**
+     * Sets the number of render threads. With more than one thread, the view plane is split in tiles of
+     * {@link #getTileSize()} pixels that are rendered in parallel.
+     *
+     * @param numThreads Number of threads. Use 1 to render sequentially, pixel by pixel, in the draw order.
+     */
+    public void setNumThreads(int numThreads) {
+        if (numThreads < 1)
+            throw new IllegalArgumentException("Number of threads must be positive! numThreads=" + numThreads);
+        this.numThreads = numThreads;
+    }
+
     public DrawOrder getDrawOrder() {
         return drawOrder;
     }
@@ -19,29 +19,58 @@ import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.math.geometry.GeometricObject;
 import br.com.vinigodoy.raytracer.math.geometry.Instance;
+import br.com.vinigodoy.raytracer.math.geometry.accel.ObjectHierarchy;
+import br.com.vinigodoy.raytracer.math.geometry.accel.Traversal;
+import br.com.vinigodoy.raytracer.stats.Counter;
+import br.com.vinigodoy.raytracer.stats.ListenerEvent;
+import br.com.vinigodoy.raytracer.stats.RenderStats;
 import br.com.vinigodoy.raytracer.tracer.Tracer;
-import br.com.vinigodoy.raytracer.utility.FloatRef;
 import br.com.vinigodoy.raytracer.utility.ShadeRec;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
-public class World {
-    private Thread renderThread;
+public class World implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private transient volatile RenderHandle current;
     private String name;
     private final Vector3 backgroundColor;
     private final Tracer tracer;
     private final Camera camera;
 
     private final List<GeometricObject> objects = new ArrayList<>();
-    private final List<WorldListener> listeners = new ArrayList<>();
+    private transient List<WorldListener> listeners = new ArrayList<>();
 
     private Light ambientLight = new AmbientLight(0.5f, new Vector3(1.0f, 1.0f, 1.0f));
 
     private final List<Light> lights = new ArrayList<>();
 
+    private boolean accelerated = false;
+    private ObjectHierarchy hierarchy;
+
+    /**
+     * Type ids of the objects, to count their hits. Built on first use.
+     */
+    private transient volatile int[] typeIds;
+
+    /**
+     * Hit records reused by each render thread, one for each recursion depth.
+     */
+    private transient ThreadLocal<ShadeRec[]> hitRecords = newHitRecords();
+
+    private transient LongAdder rayCount = new LongAdder();
+    private transient LongAdder shadowRayCount = new LongAdder();
+
     public World(String name, Tracer tracer, Vector3 backgroundColor, Camera camera) {
         this.name = name;
         this.tracer = tracer;
@@ -53,6 +82,23 @@ public class World {
         this(String.format("%1$tF", Calendar.getInstance()), tracer, backgroundColor, camera);
     }
 
+    private static ThreadLocal<ShadeRec[]> newHitRecords() {
+        return ThreadLocal.withInitial(() -> new ShadeRec[0]);
+    }
+
+    /**
+     * Listeners, the current render, the hit records and the ray counters are not part of the scene, so they're not
+     * stored in the scene cache. A loaded world starts without them.
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        listeners = new ArrayList<>();
+        hitRecords = newHitRecords();
+        rayCount = new LongAdder();
+        shadowRayCount = new LongAdder();
+    }
+
     public String getName() {
         return name;
     }
@@ -63,6 +109,8 @@ public class World {
 
     public World add(GeometricObject obj) {
         objects.add(obj);
+        hierarchy = null;
+        typeIds = null;
         return this;
     }
 
@@ -73,13 +121,13 @@ public class World {
 
     public Instance addInstance(GeometricObject obj) {
         final var instance = new Instance(obj);
-        objects.add(instance);
+        add(instance);
         return instance;
     }
 
     public Instance addInstance(GeometricObject obj, Material mtrl) {
         final var instance = new Instance(obj, mtrl);
-        objects.add(instance);
+        add(instance);
         return instance;
     }
 
@@ -93,19 +141,94 @@ public class World {
         return this;
     }
 
-    public void render(final ViewPlane vp) {
-        if (renderThread != null) throw new IllegalStateException("Cannot render two images at the same time!");
+    /**
+     * Starts rendering the world in a background thread.
+     *
+     * @param vp View plane
+     * @return The handle of the render, used to cancel or wait for it.
+     * @throws IllegalStateException If this world is still rendering. Cancel and await the previous render first.
+     */
+    public RenderHandle render(final ViewPlane vp) {
+        return render(vp, 0);
+    }
 
-        renderThread = new Thread(() -> {
-            fireTraceStarted(vp);
-            final var before = System.currentTimeMillis();
-            camera.render(World.this, vp);
-            final var renderTime = (System.currentTimeMillis() - before);
-            fireTraceFinished(renderTime);
-            renderThread = null;
+    /**
+     * Starts rendering the world in a background thread, stopping it if it takes longer than the time budget. The
+     * pixels traced until then are kept.
+     *
+     * @param vp         View plane
+     * @param timeBudget Wall-clock time budget, in milliseconds. Use 0 for no time limit.
+     * @return The handle of the render, used to cancel or wait for it.
+     * @throws IllegalStateException If this world is still rendering. Cancel and await the previous render first.
+     */
+    public synchronized RenderHandle render(final ViewPlane vp, long timeBudget) {
+        if (current != null && !current.isDone())
+            throw new IllegalStateException("Cannot render two images at the same time!");
+
+        final var handle = new RenderHandle(timeBudget);
+        current = handle;
+        final var renderThread = new Thread(() -> {
+            try {
+                fireTraceStarted(vp);
+                final var before = System.currentTimeMillis();
+                if (accelerated && hierarchy == null) buildHierarchy();
+                camera.render(World.this, vp, handle);
+                final var renderTime = (System.currentTimeMillis() - before);
+                fireTraceFinished(renderTime);
+                handle.finish(renderTime);
+            } catch (RuntimeException | Error e) {
+                handle.fail(e);
+                throw e;
+            }
         }, "Raytracer Render");
         renderThread.setDaemon(true);
         renderThread.start();
+        return handle;
+    }
+
+    /**
+     * @return The handle of the last render started by {@link #render(ViewPlane)}, or null if none was started.
+     */
+    public RenderHandle getCurrentRender() {
+        return current;
+    }
+
+    /**
+     * Enables or disables the bounding volume hierarchy. If enabled, the hierarchy is built over all world objects
+     * when the rendering starts, unless it was already built, and used to speed up hit and shadow hit tests. Worlds
+     * loaded from the {@link SceneCache} keep the hierarchy they were saved with.
+     *
+     * @param accelerated True to use the hierarchy.
+     * @return This world.
+     */
+    public World setAccelerated(boolean accelerated) {
+        this.accelerated = accelerated;
+        if (!accelerated) hierarchy = null;
+        return this;
+    }
+
+    public boolean isAccelerated() {
+        return accelerated;
+    }
+
+    /**
+     * Builds the bounding volume hierarchy over the current world objects. This is a two level structure: the world
+     * hierarchy is built over the world bounds of each object, and each shared object, such as a compound added
+     * through several instances, builds its own hierarchy only once, in its local space.
+     *
+     * @return The hierarchy, whose statistics can be used to check the build time and node counts.
+     */
+    public ObjectHierarchy buildHierarchy() {
+        for (var obj : objects) obj.buildHierarchy();
+        hierarchy = new ObjectHierarchy(objects);
+        return hierarchy;
+    }
+
+    /**
+     * @return The bounding volume hierarchy in use, or null if the world is not accelerated or it was not built yet.
+     */
+    public ObjectHierarchy getHierarchy() {
+        return hierarchy;
     }
 
     public Vector3 getBackgroundColor() {
@@ -113,39 +236,134 @@ public class World {
     }
 
     public ShadeRec hit(Ray ray) {
-        final var sr = new ShadeRec(this);
-
-        Vector3 normal = null;
-        Vector3 hitPoint = null;
-        var tMin = Float.MAX_VALUE;
-
-        for (var obj : objects) {
-            final var fr = new FloatRef();
-            if (obj.hit(ray, sr, fr) && fr.value < tMin) {
-                sr.hitAnObject = true;
-                tMin = fr.value;
-                sr.material = obj.getMaterial();
-                normal = sr.normal;
-                hitPoint = sr.worldHitPoint;
-            }
+        return hit(ray, new ShadeRec(this));
+    }
+
+    /**
+     * Finds the closest hit, filling the record the current thread keeps for the given recursion depth. No record is
+     * allocated, but the returned one is overwritten by the next hit in the same thread and depth, so it must not be
+     * kept after shading.
+     *
+     * @param ray   The ray
+     * @param depth The recursion depth
+     * @return The hit record.
+     */
+    public ShadeRec hit(Ray ray, int depth) {
+        var records = hitRecords.get();
+        if (depth >= records.length) {
+            records = Arrays.copyOf(records, depth + 1);
+            hitRecords.set(records);
+        }
+
+        var sr = records[depth];
+        if (sr == null) {
+            sr = new ShadeRec(this);
+            records[depth] = sr;
         }
 
-        if (sr.hitAnObject) {
-            sr.normal = normal;
-            sr.worldHitPoint = hitPoint;
+        sr.reset().depth = depth;
+        return hit(ray, sr);
+    }
+
+    private ShadeRec hit(Ray ray, ShadeRec sr) {
+        rayCount.increment();
+        final var traversal = Traversal.current();
+        traversal.rays++;
+        final var stats = traversal.stats;
+        if (stats != null) stats.count(sr.depth == 0 ? Counter.PRIMARY_RAYS : Counter.SECONDARY_RAYS);
+        sr.traversal = traversal;
+
+        final var frame = traversal.push();
+        try {
+            final var fr = frame.t();
+
+            final var hierarchy = this.hierarchy;
+            if (hierarchy != null) {
+                final var obj = hierarchy.hit(ray, sr, fr);
+                if (obj != null) {
+                    sr.hitAnObject = true;
+                    sr.material = obj.getMaterial();
+                    sr.keepClosestHit();
+                }
+                return sr;
+            }
+
+            var tMin = Float.MAX_VALUE;
+
+            final var types = stats == null ? null : getTypeIds();
+            for (var i = 0; i < objects.size(); i++) {
+                final var obj = objects.get(i);
+                if (stats != null) stats.hit(types[i]);
+                if (obj.hit(ray, sr, fr) && fr.value < tMin) {
+                    sr.hitAnObject = true;
+                    tMin = fr.value;
+                    sr.material = obj.getMaterial();
+                    sr.keepClosestHit();
+                }
+            }
+
+            if (sr.hitAnObject) sr.restoreClosestHit();
+            return sr;
+        } finally {
+            traversal.pop();
         }
-        return sr;
     }
 
     public boolean shadowHit(Ray ray, float d) {
-        final var t = new FloatRef();
-        return objects.stream().anyMatch(obj -> obj.shadow_hit(ray, t) && t.value < d);
+        shadowRayCount.increment();
+        final var traversal = Traversal.current();
+        traversal.shadowRays++;
+        final var stats = traversal.stats;
+        if (stats != null) stats.count(Counter.SHADOW_RAYS);
+
+        final var hierarchy = this.hierarchy;
+        if (hierarchy != null) return hierarchy.shadowHit(ray, d, traversal);
+
+        final var frame = traversal.push();
+        try {
+            final var t = frame.t();
+            final var types = stats == null ? null : getTypeIds();
+            for (var i = 0; i < objects.size(); i++) {
+                if (stats != null) stats.shadowHit(types[i]);
+                if (objects.get(i).shadow_hit(ray, t, d, traversal)) return true;
+            }
+            return false;
+        } finally {
+            traversal.pop();
+        }
+    }
+
+    private int[] getTypeIds() {
+        var ids = typeIds;
+        if (ids == null) {
+            ids = RenderStats.typeIds(objects.toArray());
+            typeIds = ids;
+        }
+        return ids;
     }
 
     public Tracer getTracer() {
         return tracer;
     }
 
+    public Camera getCamera() {
+        return camera;
+    }
+
+    /**
+     * @return Number of rays tested with {@link #hit(Ray)} since this world was created.
+     */
+    public long getRayCount() {
+        return rayCount.sum();
+    }
+
+    /**
+     * @return Number of rays tested with {@link #shadowHit(Ray, float)} since this world was created.
+     */
+    public long getShadowRayCount() {
+        return shadowRayCount.sum();
+    }
+
     public Light getAmbientLight() {
         return ambientLight;
     }
@@ -160,15 +378,49 @@ public class World {
     }
 
     private void fireTraceStarted(ViewPlane vp) {
+        final var event = new ListenerEvent();
+        event.begin();
         listeners.forEach(l -> l.traceStarted(this, vp.getHRes(), vp.getVRes()));
+        event.commit("traceStarted", listeners.size());
     }
 
     public void drawPixel(int x, int y, Vector3 color) {
+        final var event = new ListenerEvent();
+        event.begin();
         listeners.forEach(l -> l.pixelTraced(this, x, y, color));
+        event.commit("pixelTraced", listeners.size());
+    }
+
+    /**
+     * Sends a traced tile to all listeners.
+     *
+     * @see WorldListener#tileTraced(World, int, int, int, int, float[])
+     */
+    public void drawTile(int x, int y, int width, int height, float[] rgb) {
+        final var event = new ListenerEvent();
+        event.begin();
+        listeners.forEach(l -> l.tileTraced(this, x, y, width, height, rgb));
+        event.commit("tileTraced", listeners.size());
+    }
+
+    /**
+     * Tells all listeners that a progressive pass ended.
+     *
+     * @see WorldListener#passTraced(World, int)
+     */
+    public void drawPass(int samples) {
+        final var event = new ListenerEvent();
+        event.begin();
+        listeners.forEach(l -> l.passTraced(this, samples));
+        event.commit("passTraced", listeners.size());
     }
 
     private void fireTraceFinished(long renderTime) {
-        new ArrayList<>(listeners).forEach(l -> l.traceFinished(this, renderTime));
+        final var event = new ListenerEvent();
+        event.begin();
+        final var listeners = new ArrayList<>(this.listeners);
+        listeners.forEach(l -> l.traceFinished(this, renderTime));
+        event.commit("traceFinished", listeners.size());
     }
 
     public World addListener(WorldListener listener) {
@@ -35,6 +35,39 @@ public interface WorldListener {
      */
     void pixelTraced(World world, int x, int y, Vector3 color);
 
+    /**
+     * Indicate that a rectangular tile of the image was traced. By default, each pixel of the tile is sent to
+     * {@link #pixelTraced(World, int, int, Vector3)}. Listeners may override this method to copy the whole tile at once.
+     * <p>
+     * The buffer may be reused by the renderer after this method returns, so it must not be kept.
+     *
+     * @param world  World, source of the event
+     * @param x      Tile left position
+     * @param y      Tile top position
+     * @param width  Tile width
+     * @param height Tile height
+     * @param rgb    Unsaturated pixel colors, as r, g, b triplets, in rows from top to bottom. Use the
+     *               Vector3#toRGB(float, float, float) method to saturate and convert to a RGB format.
+     */
+    default void tileTraced(World world, int x, int y, int width, int height, float[] rgb) {
+        for (var j = 0; j < height; j++)
+            for (var i = 0; i < width; i++) {
+                final var k = (i + j * width) * 3;
+                pixelTraced(world, x + i, y + j, new Vector3(rgb[k], rgb[k + 1], rgb[k + 2]));
+            }
+    }
+
+    /**
+     * Indicate that a progressive rendering pass ended. The whole frame, averaged over all passes so far, was just
+     * sent to {@link #tileTraced(World, int, int, int, int, float[])}. By default, does nothing.
+     *
+     * @param world   World, source of the event
+     * @param samples Number of samples per pixel traced so far.
+     * @see ViewPlane#setProgressiveRendering(ProgressiveRendering)
+     */
+    default void passTraced(World world, int samples) {
+    }
+
     /**
      * Indicate that the image was fully rendered.
      *
@@ -0,0 +1,53 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.stats;
+
+/**
+ * Events counted by the render statistics.
+ */
+public enum Counter {
+    /**
+     * Samples traced, one for each camera ray.
+     */
+    SAMPLES,
+    /**
+     * Rays from the camera intersected with the world.
+     */
+    PRIMARY_RAYS,
+    /**
+     * Reflected and transmitted rays intersected with the world.
+     */
+    SECONDARY_RAYS,
+    /**
+     * Rays tested for occlusion between a hit point and a light.
+     */
+    SHADOW_RAYS,
+    /**
+     * Ray and bounding box tests, including the nodes of the bounding volume hierarchies.
+     */
+    BBOX_TESTS,
+    /**
+     * Bounding box tests missed by the ray, which skipped the objects inside the box.
+     */
+    BBOX_REJECTIONS,
+    /**
+     * Quartic equations solved by torus hit tests.
+     */
+    QUARTIC_SOLVES;
+
+    /**
+     * @return The counter name, in lower case, as printed in the statistics.
+     */
+    public String key() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,58 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.stats;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for the build of a bounding volume hierarchy. Worlds, big compounds and meshes build one each,
+ * so a two level hierarchy shows the builds of the children before the build of the world.
+ */
+@Name("br.com.vinigodoy.raytracer.HierarchyBuild")
+@Label("Hierarchy Build")
+@Category("Raytracer")
+@Description("Build of a bounding volume hierarchy")
+public final class HierarchyBuildEvent extends Event {
+    @Label("Primitives")
+    private int primitives;
+
+    @Label("Nodes")
+    private int nodes;
+
+    @Label("Leaves")
+    private int leaves;
+
+    @Label("Depth")
+    @Description("Depth of the deepest leaf")
+    private int depth;
+
+    /**
+     * Commits the event, if it's recorded.
+     *
+     * @param primitives Number of primitives.
+     * @param nodes      Total number of nodes.
+     * @param leaves     Number of leaf nodes.
+     * @param depth      Depth of the deepest leaf.
+     */
+    public void commit(int primitives, int nodes, int leaves, int depth) {
+        if (!shouldCommit()) return;
+        this.primitives = primitives;
+        this.nodes = nodes;
+        this.leaves = leaves;
+        this.depth = depth;
+        commit();
+    }
+}
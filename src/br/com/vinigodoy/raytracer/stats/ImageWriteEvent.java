@@ -0,0 +1,70 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.stats;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Flight recorder event for the encoding of an image file, including reading its rows from the frame buffer.
+ */
+@Name("br.com.vinigodoy.raytracer.ImageWrite")
+@Label("Image Write")
+@Category("Raytracer")
+@Description("Encoding of an image file")
+public final class ImageWriteEvent extends Event {
+    @Label("Format")
+    private String format;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Width")
+    private int width;
+
+    @Label("Height")
+    private int height;
+
+    @Label("Size")
+    @DataAmount
+    private long size;
+
+    /**
+     * Commits the event, if it's recorded.
+     *
+     * @param format Image format, such as PNG.
+     * @param path   The file written.
+     * @param width  Image width.
+     * @param height Image height.
+     */
+    public void commit(String format, Path path, int width, int height) {
+        if (!shouldCommit()) return;
+        this.format = format;
+        this.path = path.toAbsolutePath().toString();
+        this.width = width;
+        this.height = height;
+        try {
+            size = Files.size(path);
+        } catch (IOException e) {
+            size = -1;
+        }
+        commit();
+    }
+}
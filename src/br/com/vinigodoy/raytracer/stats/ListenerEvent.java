@@ -0,0 +1,52 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.stats;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event for a call of the world listeners, such as a traced tile sent to the display.
+ * <p>
+ * Sequential renders send each pixel to the listeners, which would flood the recording, so by default only calls of
+ * at least one millisecond are recorded. Set the threshold of the event to 0 ms to record them all.
+ */
+@Name("br.com.vinigodoy.raytracer.ListenerDispatch")
+@Label("Listener Dispatch")
+@Category("Raytracer")
+@Description("Call of the world listeners")
+@Threshold("1 ms")
+public final class ListenerEvent extends Event {
+    @Label("Callback")
+    @Description("Listener method called, such as tileTraced")
+    private String callback;
+
+    @Label("Listeners")
+    private int listeners;
+
+    /**
+     * Commits the event, if it's recorded.
+     *
+     * @param callback  Name of the listener method called.
+     * @param listeners Number of listeners called.
+     */
+    public void commit(String callback, int listeners) {
+        if (!shouldCommit()) return;
+        this.callback = callback;
+        this.listeners = listeners;
+        commit();
+    }
+}
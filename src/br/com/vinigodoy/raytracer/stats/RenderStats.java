@@ -0,0 +1,229 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.stats;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Render statistics. Counts rays, samples, bounding box tests, quartic solves, and hit and shadow_hit calls of each
+ * type of object, to show where a render spends its time.
+ * <p>
+ * Statistics are disabled by default, and then each counting point costs a single flag test. Once enabled, each thread
+ * counts in its own {@link ThreadStats}, without locks or atomic operations. Looking up the counters of a thread costs
+ * more than counting, so it's done as rarely as possible: the world looks them up once for each ray, and passes them down
+ * to hierarchies and objects in the traversal state of the ray. Box tests are counted in local variables and added at
+ * the end of each traversal.
+ * Objects are counted by type ids, looked up once when they're first tested, rather than by class.
+ * <p>
+ * A {@link #snapshot()} can be taken at any time, even during a render. The counters of threads that are still
+ * running may be a few increments behind. Counters of finished threads are kept until {@link #reset()}.
+ */
+public final class RenderStats {
+    /**
+     * Number of hit and shadow_hit calls of a type of object.
+     */
+    public record Hits(long hits, long shadowHits) {
+    }
+
+    /**
+     * Counters summed over all threads.
+     *
+     * @param counters Value of each counter.
+     * @param hits     Hits of each type of object, by class name, sorted by the number of hit calls.
+     */
+    public record Snapshot(Map<Counter, Long> counters, Map<String, Hits> hits) {
+        public long get(Counter counter) {
+            return counters.get(counter);
+        }
+
+        /**
+         * Prints the counters as key=value lines, such as stats_primary_rays=100 or stats_hits_sphere=200.
+         *
+         * @param out The stream to print into.
+         */
+        public void print(PrintStream out) {
+            for (var counter : counters.entrySet())
+                out.println("stats_" + counter.getKey().key() + "=" + counter.getValue());
+            for (var type : hits.entrySet()) {
+                final var name = type.getKey().toLowerCase();
+                out.println("stats_hits_" + name + "=" + type.getValue().hits());
+                out.println("stats_shadow_hits_" + name + "=" + type.getValue().shadowHits());
+            }
+        }
+    }
+
+    private static volatile boolean enabled;
+
+    private static final ThreadLocal<ThreadStats> CURRENT = ThreadLocal.withInitial(RenderStats::register);
+    private static final List<ThreadStats> THREADS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Counters of threads that finished. Guarded by THREADS.
+     */
+    private static final long[] retired = new long[Counter.values().length];
+    private static long[] retiredHits = new long[0];
+
+    /**
+     * Classes counted so far, indexed by type id. Guarded by itself.
+     */
+    private static final List<Class<?>> TYPES = new ArrayList<>();
+    private static final ClassValue<Integer> TYPE_ID = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            synchronized (TYPES) {
+                TYPES.add(type);
+                return TYPES.size() - 1;
+            }
+        }
+    };
+
+    private RenderStats() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns the statistics on or off. Counting adds a few percent to the render time.
+     *
+     * @param enabled True to count.
+     */
+    public static void setEnabled(boolean enabled) {
+        RenderStats.enabled = enabled;
+    }
+
+    /**
+     * @return The counters of the current thread, or null if the statistics are disabled.
+     */
+    public static ThreadStats current() {
+        return enabled ? CURRENT.get() : null;
+    }
+
+    /**
+     * Increments a counter of the current thread, if the statistics are enabled.
+     */
+    public static void count(Counter counter) {
+        if (enabled) CURRENT.get().count(counter);
+    }
+
+    /**
+     * Adds to a counter of the current thread, if the statistics are enabled.
+     */
+    public static void count(Counter counter, long amount) {
+        if (enabled) CURRENT.get().count(counter, amount);
+    }
+
+    /**
+     * Gives the type id used to count the hits of a class. Looking it up takes a while compared to counting, so objects
+     * tested often should keep the ids of their children, as {@link #typeIds(Object[])} does.
+     *
+     * @param type The class of the object.
+     * @return The type id, the same for as long as the JVM runs.
+     */
+    public static int typeId(Class<?> type) {
+        return TYPE_ID.get(type);
+    }
+
+    /**
+     * @return The type id of each object.
+     */
+    public static int[] typeIds(Object[] objects) {
+        final var ids = new int[objects.length];
+        for (var i = 0; i < objects.length; i++) ids[i] = typeId(objects[i].getClass());
+        return ids;
+    }
+
+    private static ThreadStats register() {
+        final var stats = new ThreadStats(Thread.currentThread());
+        THREADS.add(stats);
+        return stats;
+    }
+
+    /**
+     * Sums the counters of all threads.
+     *
+     * @return The statistics so far.
+     */
+    public static Snapshot snapshot() {
+        final var totals = new long[Counter.values().length];
+        long[] hits;
+        synchronized (THREADS) {
+            retire();
+            System.arraycopy(retired, 0, totals, 0, totals.length);
+            hits = retiredHits.clone();
+            for (var stats : THREADS) {
+                for (var counter : Counter.values()) totals[counter.ordinal()] += stats.get(counter);
+                hits = add(hits, stats.getHits());
+            }
+        }
+
+        final var counters = new EnumMap<Counter, Long>(Counter.class);
+        for (var counter : Counter.values()) counters.put(counter, totals[counter.ordinal()]);
+
+        //Classes with the same simple name, from different packages, are added together
+        final var byType = new HashMap<String, Hits>();
+        synchronized (TYPES) {
+            for (var id = 0; id < TYPES.size() && id * 2 + 1 < hits.length; id++) {
+                if (hits[id * 2] == 0 && hits[id * 2 + 1] == 0) continue;
+                byType.merge(TYPES.get(id).getSimpleName(), new Hits(hits[id * 2], hits[id * 2 + 1]),
+                        (a, b) -> new Hits(a.hits() + b.hits(), a.shadowHits() + b.shadowHits()));
+            }
+        }
+
+        final var types = new ArrayList<>(byType.entrySet());
+        types.sort((a, b) -> Long.compare(b.getValue().hits(), a.getValue().hits()));
+        final var sorted = new LinkedHashMap<String, Hits>();
+        for (var type : types) sorted.put(type.getKey(), type.getValue());
+        return new Snapshot(Collections.unmodifiableMap(counters), Collections.unmodifiableMap(sorted));
+    }
+
+    /**
+     * Clears all counters. Should not be called during a render, since the running threads keep counting.
+     */
+    public static void reset() {
+        synchronized (THREADS) {
+            retire();
+            Arrays.fill(retired, 0);
+            retiredHits = new long[0];
+            for (var stats : THREADS) stats.clear();
+        }
+    }
+
+    /**
+     * Moves the counters of finished threads to the retired counters, so the thread list doesn't grow with each
+     * render thread pool.
+     */
+    private static void retire() {
+        for (var stats : THREADS) {
+            if (stats.isAlive()) continue;
+            for (var counter : Counter.values()) retired[counter.ordinal()] += stats.get(counter);
+            retiredHits = add(retiredHits, stats.getHits());
+            THREADS.remove(stats);
+        }
+    }
+
+    private static long[] add(long[] totals, long[] values) {
+        if (values.length > totals.length) totals = Arrays.copyOf(totals, values.length);
+        for (var i = 0; i < values.length; i++) totals[i] += values[i];
+        return totals;
+    }
+}
@@ -0,0 +1,52 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.stats;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for the creation of a sample scene: its objects, materials, lights, camera and sample sets.
+ */
+@Name("br.com.vinigodoy.raytracer.SceneBuild")
+@Label("Scene Build")
+@Category("Raytracer")
+@Description("Creation of a scene by the scene code")
+public final class SceneBuildEvent extends Event {
+    @Label("Scene")
+    private String scene;
+
+    @Label("Samples")
+    @Description("Samples per pixel the scene was created for")
+    private int samples;
+
+    @Label("Zoom")
+    private float zoom;
+
+    /**
+     * Commits the event, if it's recorded.
+     *
+     * @param scene   Scene name.
+     * @param samples Samples per pixel.
+     * @param zoom    Camera zoom.
+     */
+    public void commit(String scene, int samples, float zoom) {
+        if (!shouldCommit()) return;
+        this.scene = scene;
+        this.samples = samples;
+        this.zoom = zoom;
+        commit();
+    }
+}
@@ -0,0 +1,93 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.stats;
+
+import java.util.Arrays;
+
+/**
+ * Counters of a single thread. Only the owner thread writes them, with plain increments, so counting costs little more
+ * than an array access. Other threads read them while building a snapshot, and may see values a few increments behind,
+ * or a hit array before it grew, until the owner thread finishes its work. Once it's finished, seeing it dead makes all
+ * of its writes visible.
+ * <p>
+ * Use {@link RenderStats#current()} to get the counters of the current thread.
+ */
+public final class ThreadStats {
+    private final Thread owner;
+    private final long[] counters = new long[Counter.values().length];
+
+    /**
+     * Calls to hit and shadow_hit, in pairs, for each type id. Grown by the owner thread as new types are counted.
+     */
+    private long[] hits = new long[32];
+
+    ThreadStats(Thread owner) {
+        this.owner = owner;
+    }
+
+    public void count(Counter counter) {
+        counters[counter.ordinal()]++;
+    }
+
+    public void count(Counter counter, long amount) {
+        counters[counter.ordinal()] += amount;
+    }
+
+    /**
+     * Counts a call to {@code GeometricObject.hit}.
+     *
+     * @param typeId The type id of the object tested, from {@link RenderStats#typeId(Class)}.
+     */
+    public void hit(int typeId) {
+        final var index = typeId * 2;
+        hits(index)[index]++;
+    }
+
+    /**
+     * Counts a call to {@code GeometricObject.shadow_hit}.
+     *
+     * @param typeId The type id of the object tested, from {@link RenderStats#typeId(Class)}.
+     */
+    public void shadowHit(int typeId) {
+        final var index = typeId * 2;
+        hits(index)[index + 1]++;
+    }
+
+    /**
+     * @return The hit counters, with room for the pair starting at the given index.
+     */
+    private long[] hits(int index) {
+        var hits = this.hits;
+        if (index + 1 >= hits.length) {
+            hits = Arrays.copyOf(hits, Math.max(hits.length * 2, index + 2));
+            this.hits = hits;
+        }
+        return hits;
+    }
+
+    void clear() {
+        Arrays.fill(counters, 0);
+        Arrays.fill(hits, 0);
+    }
+
+    boolean isAlive() {
+        return owner.isAlive();
+    }
+
+    long get(Counter counter) {
+        return counters[counter.ordinal()];
+    }
+
+    long[] getHits() {
+        return hits;
+    }
+}
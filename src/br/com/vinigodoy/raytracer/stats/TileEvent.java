@@ -0,0 +1,84 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.stats;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for a traced tile, or a pass over a tile in progressive renders. The listener call that shows
+ * the tile is not included.
+ * <p>
+ * Samples and rays are counted by the renderer while it traces the tile, apart from the render statistics, so recording
+ * tiles neither needs nor changes them.
+ */
+@Name("br.com.vinigodoy.raytracer.Tile")
+@Label("Tile")
+@Category("Raytracer")
+@Description("Tile traced by a render thread")
+public final class TileEvent extends Event {
+    @Label("X")
+    @Description("Left column of the tile, in image coordinates")
+    private int x;
+
+    @Label("Y")
+    @Description("Top row of the tile, in image coordinates")
+    private int y;
+
+    @Label("Width")
+    private int width;
+
+    @Label("Height")
+    private int height;
+
+    @Label("Pass")
+    @Description("Progressive pass, starting at 1, or zero if the tile was traced with all its samples")
+    private int pass;
+
+    @Label("Samples")
+    private long samples;
+
+    @Label("Rays")
+    @Description("Primary and secondary rays")
+    private long rays;
+
+    @Label("Shadow Rays")
+    private long shadowRays;
+
+    /**
+     * Commits the event, if it's recorded.
+     *
+     * @param x          Left column of the tile, in image coordinates.
+     * @param y          Top row of the tile, in image coordinates.
+     * @param width      Tile width.
+     * @param height     Tile height.
+     * @param pass       Progressive pass, starting at 1, or zero.
+     * @param samples    Samples taken in the tile.
+     * @param rays       Primary and secondary rays traced in the tile.
+     * @param shadowRays Shadow rays traced in the tile.
+     */
+    public void commit(int x, int y, int width, int height, int pass, long samples, long rays, long shadowRays) {
+        if (!shouldCommit()) return;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.pass = pass;
+        this.samples = samples;
+        this.rays = rays;
+        this.shadowRays = shadowRays;
+        commit();
+    }
+}
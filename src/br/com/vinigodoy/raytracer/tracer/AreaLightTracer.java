@@ -4,6 +4,8 @@ import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.scene.World;
 
+import java.io.Serial;
+
 /*
 ===========================================================================
 COPYRIGHT 2013 Vinícius G. Mendonça ALL RIGHTS RESERVED.
@@ -16,9 +18,12 @@ is free to be redistributed or used under Creative Commons license 2.5 br:
 http://creativecommons.org/licenses/by-sa/2.5/br/
 ============================================================================*/
 public class AreaLightTracer implements Tracer {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     @Override
     public Vector3 trace(World world, Ray ray, int depth) {
-        final var sr = world.hit(ray).clone();
+        final var sr = world.hit(ray, depth);
         if (!sr.hitAnObject) return world.getBackgroundColor();
         sr.ray = ray;
         return sr.material.shade(sr);
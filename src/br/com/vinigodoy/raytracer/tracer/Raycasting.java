@@ -14,13 +14,18 @@ import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.scene.World;
 
+import java.io.Serial;
+
 /**
  * Simple ray casting algorithm
  */
 public class Raycasting implements Tracer {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     @Override
     public Vector3 trace(World world, Ray ray, int depth) {
-        final var sr = world.hit(ray).clone();
+        final var sr = world.hit(ray, depth);
         if (!sr.hitAnObject) return world.getBackgroundColor();
         sr.ray = ray;
         return sr.material.shade(sr);
@@ -15,9 +15,11 @@ import br.com.vinigodoy.raytracer.math.Ray;
 import br.com.vinigodoy.raytracer.math.Vector3;
 import br.com.vinigodoy.raytracer.scene.World;
 
+import java.io.Serializable;
+
 /**
  * Represent a tracing strategy
  */
-public interface Tracer {
+public interface Tracer extends Serializable {
     Vector3 trace(World world, Ray ray, int depth);
 }
@@ -11,7 +11,12 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 
 package br.com.vinigodoy.raytracer.utility;
 
+import java.io.Serial;
+
 public class RaytraceException extends IllegalArgumentException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     public RaytraceException(String message, Object... params) {
         super(String.format(message, params));
     }
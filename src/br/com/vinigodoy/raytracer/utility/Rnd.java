@@ -13,27 +13,42 @@ http://creativecommons.org/licenses/by-sa/2.5/br/
 ============================================================================*/
 
 import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 /**
- * Random number generator utilities
+ * Random number generator utilities. Each thread has its own generator, so threads never contend for it.
+ * <p>
+ * Rendering itself takes no numbers from here: samplers pick the sample sets of each pixel by hashing the render seed
+ * with the pixel and the sample, so images are the same whatever thread traces each pixel. The generators are used
+ * to create sample sets and draw orders. Seed the generator of the thread that builds the scene to build it the same
+ * way every time.
  */
 public class Rnd {
-    private static final RandomGenerator RND = RandomGenerator.of("Xoroshiro128PlusPlus");
+    private static final RandomGeneratorFactory<RandomGenerator> FACTORY =
+            RandomGeneratorFactory.of("Xoroshiro128PlusPlus");
+    private static final ThreadLocal<RandomGenerator> RND = ThreadLocal.withInitial(FACTORY::create);
+
+    /**
+     * Restarts the generator of the calling thread with the given seed.
+     */
+    public static void setSeed(long seed) {
+        RND.set(FACTORY.create(seed));
+    }
 
     public static float rndFloat() {
-        return RND.nextFloat();
+        return RND.get().nextFloat();
     }
 
     public static float rndFloat(float min, float max) {
-        return RND.nextFloat(min, max);
+        return RND.get().nextFloat(min, max);
     }
 
     public static int rndInt(int range) {
-        return RND.nextInt(range);
+        return RND.get().nextInt(range);
     }
 
     public static int rndInt(int min, int max) {
         if (min == max) return min;
-        return RND.nextInt(min, max);
+        return RND.get().nextInt(min, max);
     }
 }
@@ -14,7 +14,9 @@ package br.com.vinigodoy.raytracer.utility;
 
 import br.com.vinigodoy.raytracer.material.Material;
 import br.com.vinigodoy.raytracer.math.Ray;
+import br.com.vinigodoy.raytracer.math.Vector2;
 import br.com.vinigodoy.raytracer.math.Vector3;
+import br.com.vinigodoy.raytracer.math.geometry.accel.Traversal;
 import br.com.vinigodoy.raytracer.scene.World;
 
 public class ShadeRec implements Cloneable {
@@ -54,21 +56,97 @@ public class ShadeRec implements Cloneable {
     //For area lights
     public Vector3 dir;
 
+    /**
+     * Point sampled in the area light surface, and the light normal at that point.
+     */
+    public Vector3 lightSamplePoint;
+    public Vector3 lightNormal;
+
     public final World world;
 
+    /**
+     * Traversal state of the thread tracing the ray, with its counters. Set by the world for each ray, so the objects
+     * hit don't need to look it up.
+     */
+    public Traversal traversal;
+
+    /**
+     * Copies of the closest hit point and normal. Instances and hierarchies return their hits in buffers they reuse for
+     * the next object, so the world keeps the closest hit here.
+     */
+    private final Vector3 closestHitPoint = new Vector3();
+    private final Vector3 closestNormal = new Vector3();
+
+    /**
+     * Vectors the lights and light emitting objects read their samples into, so sampling allocates nothing. They're
+     * overwritten by the next sample taken for this record.
+     */
+    public final Vector2 squareSample = new Vector2();
+    public final Vector3 hemisphereSample = new Vector3();
+
     public ShadeRec(World world) {
         this.world = world;
     }
 
+    /**
+     * @return The traversal state of the thread tracing the ray. Records not filled by the world look it up once.
+     */
+    public Traversal traversal() {
+        if (traversal == null) traversal = Traversal.current();
+        return traversal;
+    }
+
+    /**
+     * Copies the current hit point and normal, as the closest hit so far, and makes the record point to the copies.
+     * Later hits may replace the hit point and normal again, but not change the copies.
+     */
+    public void keepClosestHit() {
+        worldHitPoint = closestHitPoint.set(worldHitPoint);
+        normal = closestNormal.set(normal);
+    }
+
+    /**
+     * Makes the record point to the hit kept by {@link #keepClosestHit()} again.
+     */
+    public void restoreClosestHit() {
+        worldHitPoint = closestHitPoint;
+        normal = closestNormal;
+    }
+
+    /**
+     * Clears all hit information, so this record can be reused by another ray.
+     *
+     * @return This record.
+     */
+    public ShadeRec reset() {
+        hitAnObject = false;
+        material = null;
+        worldHitPoint = null;
+        localHitPoint = null;
+        normal = null;
+        ray = null;
+        depth = 0;
+        dir = null;
+        lightSamplePoint = null;
+        lightNormal = null;
+        return this;
+    }
+
+    /**
+     * Copies this record. The material is shared, since it belongs to the scene, not to the hit.
+     */
     @Override
     public ShadeRec clone() {
         final var sr = new ShadeRec(world);
         sr.hitAnObject = hitAnObject;
-        sr.material = material == null ? null : material.clone();
+        sr.material = material;
         sr.worldHitPoint = worldHitPoint == null ? null : worldHitPoint.clone();
         sr.ray = ray == null ? null : new Ray(ray.getOrigin(), ray.getDirection());
         sr.depth = depth;
+        sr.traversal = traversal;
         sr.dir = dir == null ? null : dir.clone();
+        sr.lightSamplePoint = lightSamplePoint == null ? null : lightSamplePoint.clone();
+        sr.lightNormal = lightNormal == null ? null : lightNormal.clone();
         sr.normal = normal == null ? null : normal.clone();
         return sr;
     }
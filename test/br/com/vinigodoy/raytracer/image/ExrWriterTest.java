@@ -0,0 +1,147 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.image;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reads the written files back with a minimal scanline OpenEXR decoder.
+ */
+class ExrWriterTest {
+    private static final int WIDTH = 53;
+    private static final int HEIGHT = 6;
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Black rows, noisy rows, and rows with both, so both runs and literals are encoded. Black rows have runs longer
+     * than the longest run a single code can hold.
+     */
+    private static FloatFrameBuffer image() {
+        final var random = new Random(11);
+        final var image = new FloatFrameBuffer(WIDTH, HEIGHT);
+        for (var y = 0; y < HEIGHT; y++)
+            for (var x = 0; x < WIDTH; x++) {
+                final var flat = y % 3 == 0 || y % 3 == 2 && x < WIDTH / 2;
+                if (!flat) image.setPixel(x, y, random.nextFloat(), random.nextFloat() * 4, -random.nextFloat());
+            }
+        return image;
+    }
+
+    /**
+     * Reads an OpenEXR file.
+     *
+     * @param compressed Returns, for each row, if it was stored compressed.
+     * @return The pixels, as r, g, b triplets.
+     */
+    private static float[] read(Path path, int expectedCompression, boolean[] compressed) throws IOException {
+        final var file = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(20000630, file.getInt());
+        assertEquals(2, file.getInt());
+
+        var compression = -1;
+        for (var name = readString(file); !name.isEmpty(); name = readString(file)) {
+            readString(file);
+            final var size = file.getInt();
+            if (name.equals("compression")) compression = file.get(file.position());
+            file.position(file.position() + size);
+        }
+        assertEquals(expectedCompression, compression);
+
+        final var rowSize = WIDTH * 3 * Float.BYTES;
+        final var pixels = new float[WIDTH * HEIGHT * 3];
+        final var offsets = new long[HEIGHT];
+        for (var y = 0; y < HEIGHT; y++) offsets[y] = file.getLong();
+        for (var y = 0; y < HEIGHT; y++) {
+            file.position((int) offsets[y]);
+            assertEquals(y, file.getInt());
+            final var data = new byte[file.getInt()];
+            file.get(data);
+            compressed[y] = data.length < rowSize;
+
+            final var row = ByteBuffer.wrap(compressed[y] ? decompress(data, rowSize) : data)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            for (var c = 2; c >= 0; c--)   //B, G, R
+                for (var x = 0; x < WIDTH; x++) pixels[(x + y * WIDTH) * 3 + c] = row.getFloat();
+        }
+        return pixels;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final var start = buffer.position();
+        while (buffer.get() != 0) ;
+        return new String(buffer.array(), start, buffer.position() - start - 1, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Decodes the runs, adds the differences back and interleaves the two halves, as the OpenEXR library does.
+     */
+    private static byte[] decompress(byte[] data, int size) {
+        final var decoded = new byte[size];
+        var o = 0;
+        for (var i = 0; i < data.length; ) {
+            final var count = data[i++];
+            if (count < 0) {
+                for (var n = 0; n < -count; n++) decoded[o++] = data[i++];
+            } else {
+                for (var n = 0; n <= count; n++) decoded[o++] = data[i];
+                i++;
+            }
+        }
+        assertEquals(size, o);
+
+        for (var i = 1; i < size; i++) decoded[i] = (byte) (decoded[i - 1] + decoded[i] - 128);
+
+        final var raw = new byte[size];
+        final var half = (size + 1) / 2;
+        for (var i = 0; i < size; i++) raw[i] = decoded[(i & 1) == 0 ? i / 2 : half + i / 2];
+        return raw;
+    }
+
+    @Test
+    void rleRowsDecodeToTheImage() throws IOException {
+        final var image = image();
+        final var path = dir.resolve("image.exr");
+        ExrWriter.write(path, image, ExrWriter.Compression.RLE);
+
+        final var compressed = new boolean[HEIGHT];
+        assertArrayEquals(image.getPixels(), read(path, 1, compressed));
+        assertTrue(compressed[0], "Black rows must be compressed");
+        assertTrue(compressed[2], "Half black rows must be compressed");
+    }
+
+    @Test
+    void uncompressedRowsDecodeToTheImage() throws IOException {
+        final var image = image();
+        final var path = dir.resolve("image.exr");
+        ExrWriter.write(path, image, ExrWriter.Compression.NONE);
+
+        final var compressed = new boolean[HEIGHT];
+        assertArrayEquals(image.getPixels(), read(path, 0, compressed));
+        for (var y = 0; y < HEIGHT; y++) assertFalse(compressed[y]);
+    }
+}
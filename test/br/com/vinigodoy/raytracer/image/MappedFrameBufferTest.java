@@ -0,0 +1,112 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.image;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Checks the mapped buffer against a heap buffer, with partial edge tiles and images split in several mappings.
+ */
+class MappedFrameBufferTest {
+    private static final int WIDTH = 37;
+    private static final int HEIGHT = 29;
+    private static final int TILE_SIZE = 8;
+    private static final long BAND_SIZE = (long) WIDTH * TILE_SIZE * 3 * Float.BYTES;
+
+    @TempDir
+    Path dir;
+
+    private final Random random = new Random(5);
+
+    private float[] randomColors(int pixels) {
+        final var rgb = new float[pixels * 3];
+        for (var i = 0; i < rgb.length; i++) rgb[i] = random.nextFloat();
+        return rgb;
+    }
+
+    private static void assertSameRows(FrameBuffer expected, FrameBuffer actual) {
+        for (var y = 0; y < HEIGHT; y++)
+            assertArrayEquals(expected.getRow(y, new float[WIDTH * 3]), actual.getRow(y, new float[WIDTH * 3]),
+                    "Row " + y);
+    }
+
+    /**
+     * Draws the tiles the way the renderer does: counted from the bottom of the image, so the top ones are cut, and
+     * not aligned with the stored tiles.
+     */
+    private void drawTiles(FrameBuffer... buffers) {
+        for (var y1 = HEIGHT; y1 > 0; y1 -= TILE_SIZE) {
+            final var y0 = Math.max(0, y1 - TILE_SIZE);
+            for (var x0 = 0; x0 < WIDTH; x0 += TILE_SIZE) {
+                final var w = Math.min(TILE_SIZE, WIDTH - x0);
+                final var rgb = randomColors(w * (y1 - y0));
+                for (var buffer : buffers) buffer.setTile(x0, y0, w, y1 - y0, rgb);
+            }
+        }
+    }
+
+    private void drawRectangles(FrameBuffer... buffers) {
+        for (var i = 0; i < 50; i++) {
+            final var x = random.nextInt(WIDTH);
+            final var y = random.nextInt(HEIGHT);
+            final var w = 1 + random.nextInt(WIDTH - x);
+            final var h = 1 + random.nextInt(HEIGHT - y);
+            final var rgb = randomColors(w * h);
+            for (var buffer : buffers) buffer.setTile(x, y, w, h, rgb);
+        }
+    }
+
+    private void drawPixels(FrameBuffer... buffers) {
+        for (var y = 0; y < HEIGHT; y++)
+            for (var x = 0; x < WIDTH; x++) {
+                if (random.nextInt(3) != 0) continue;
+                final var r = random.nextFloat();
+                final var g = random.nextFloat();
+                final var b = random.nextFloat();
+                for (var buffer : buffers) buffer.setPixel(x, y, r, g, b);
+            }
+    }
+
+    private void check(long maxMapping) throws IOException {
+        final var expected = new FloatFrameBuffer(WIDTH, HEIGHT);
+        final var mapped = new MappedFrameBuffer(dir.resolve("buffer.bin"), WIDTH, HEIGHT, TILE_SIZE, maxMapping);
+
+        drawTiles(expected, mapped);
+        assertSameRows(expected, mapped);
+        drawRectangles(expected, mapped);
+        assertSameRows(expected, mapped);
+        drawPixels(expected, mapped);
+        assertSameRows(expected, mapped);
+    }
+
+    @Test
+    void singleMappingKeepsThePixels() throws IOException {
+        check(Long.MAX_VALUE);
+    }
+
+    @Test
+    void severalMappingsKeepThePixels() throws IOException {
+        check(2 * BAND_SIZE);
+    }
+
+    @Test
+    void oneRowOfTilesPerMappingKeepsThePixels() throws IOException {
+        check(1);
+    }
+}
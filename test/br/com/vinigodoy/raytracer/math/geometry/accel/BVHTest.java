@@ -0,0 +1,148 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.math.geometry.accel;
+
+import br.com.vinigodoy.raytracer.math.Ray;
+import br.com.vinigodoy.raytracer.math.Vector3;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the hierarchy against a linear search over the same boxes.
+ */
+class BVHTest {
+    private static final int RAYS = 2000;
+
+    private final Random random = new Random(42);
+
+    /**
+     * Random boxes, some of them flat, in a 100 units cube.
+     */
+    private float[] randomBoxes(int count) {
+        final var boxes = new float[count * 6];
+        for (var i = 0; i < count; i++) {
+            for (var axis = 0; axis < 3; axis++) {
+                final var min = random.nextFloat() * 100;
+                final var size = random.nextInt(10) == 0 ? 0 : random.nextFloat() * 8;
+                boxes[i * 6 + axis] = min;
+                boxes[i * 6 + 3 + axis] = min + size;
+            }
+        }
+        return boxes;
+    }
+
+    /**
+     * Half of the rays are aimed at the center of a box, so both hits and misses are exercised.
+     */
+    private Ray randomRay(float[] boxes, int count) {
+        final var origin = new Vector3(
+                random.nextFloat() * 140 - 20, random.nextFloat() * 140 - 20, random.nextFloat() * 140 - 20);
+        if (count == 0 || random.nextBoolean()) {
+            final var direction = new Vector3(
+                    random.nextFloat() - 0.5f, random.nextFloat() - 0.5f, random.nextFloat() - 0.5f).normalize();
+            return new Ray(origin, direction);
+        }
+        final var box = random.nextInt(count) * 6;
+        final var target = new Vector3(
+                (boxes[box] + boxes[box + 3]) / 2,
+                (boxes[box + 1] + boxes[box + 4]) / 2,
+                (boxes[box + 2] + boxes[box + 5]) / 2);
+        return new Ray(origin, target.subtract(origin).normalize());
+    }
+
+    /**
+     * Slab test. Rays starting inside a box hit it where they leave it.
+     */
+    private static BVH.Intersector boxes(float[] boxes) {
+        return (primitive, ray, tMax) -> {
+            var t0 = 0.0f;
+            var t1 = Float.POSITIVE_INFINITY;
+            for (var axis = 0; axis < 3; axis++) {
+                final var o = component(ray.getOrigin(), axis);
+                final var inv = 1.0f / component(ray.getDirection(), axis);
+                var near = (boxes[primitive * 6 + axis] - o) * inv;
+                var far = (boxes[primitive * 6 + 3 + axis] - o) * inv;
+                if (near > far) {
+                    final var swap = near;
+                    near = far;
+                    far = swap;
+                }
+                //NaNs, from rays parallel to a flat slab, must not widen the interval
+                if (near > t0) t0 = near;
+                if (far < t1) t1 = far;
+            }
+            if (!(t0 <= t1)) return Float.POSITIVE_INFINITY;
+            final var t = t0 > 0 ? t0 : t1;
+            return t > 0 && t < tMax ? t : Float.POSITIVE_INFINITY;
+        };
+    }
+
+    private static float component(Vector3 v, int axis) {
+        return axis == 0 ? v.getX() : axis == 1 ? v.getY() : v.getZ();
+    }
+
+    private static float closest(BVH.Intersector intersector, int count, Ray ray) {
+        var closest = Float.POSITIVE_INFINITY;
+        for (var i = 0; i < count; i++) closest = Math.min(closest, intersector.intersect(i, ray, closest));
+        return closest;
+    }
+
+    @Test
+    void hitFindsTheClosestBox() {
+        for (var count : new int[]{1, 2, 7, 100, 2000}) {
+            final var boxes = randomBoxes(count);
+            final var bvh = BVH.build(boxes, count);
+            final var intersector = boxes(boxes);
+
+            var hits = 0;
+            for (var i = 0; i < RAYS; i++) {
+                final var ray = randomRay(boxes, count);
+                final var expected = closest(intersector, count, ray);
+                final var primitive = bvh.hit(ray, Float.MAX_VALUE, intersector);
+                final var actual = primitive == -1 ? Float.POSITIVE_INFINITY :
+                        intersector.intersect(primitive, ray, Float.MAX_VALUE);
+                assertEquals(expected, actual, "count=" + count + ", ray " + i);
+                if (primitive != -1) hits++;
+            }
+            assertTrue(hits > RAYS / 4, "Too few rays hit something: " + hits);
+        }
+    }
+
+    @Test
+    void shadowHitAgreesWithALinearSearch() {
+        for (var count : new int[]{1, 2, 7, 100, 2000}) {
+            final var boxes = randomBoxes(count);
+            final var bvh = BVH.build(boxes, count);
+            final var intersector = boxes(boxes);
+
+            for (var i = 0; i < RAYS; i++) {
+                final var ray = randomRay(boxes, count);
+                final var distance = random.nextFloat() * 120;
+                final var expected = closest(intersector, count, ray) < distance;
+                assertEquals(expected, bvh.shadowHit(ray, distance, intersector), "count=" + count + ", ray " + i);
+            }
+        }
+    }
+
+    @Test
+    void emptyHierarchyIsNeverHit() {
+        final var bvh = BVH.build(new float[0], 0);
+        final var ray = randomRay(null, 0);
+        assertEquals(-1, bvh.hit(ray, Float.MAX_VALUE, (p, r, t) -> 0));
+        assertFalse(bvh.shadowHit(ray, Float.MAX_VALUE, (p, r, t) -> 0));
+    }
+}
@@ -0,0 +1,74 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.math.geometry.mesh;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ObjParserTest {
+    private static final String QUAD = String.join("\n",
+            "# A quad split in two triangles",
+            "",
+            "v 0 0 0",
+            "",
+            "",
+            "v 1 0 0",
+            "v 1 1 0",
+            "   ",
+            "v 0 1 0",
+            "",
+            "f 1 2 3",
+            "",
+            "f 1 3 4",
+            "");
+
+    @TempDir
+    Path dir;
+
+    private MeshBuilder parse(String text) throws IOException {
+        final var file = dir.resolve("mesh.obj");
+        Files.writeString(file, text, StandardCharsets.US_ASCII);
+        try (var in = new MappedReader(file)) {
+            return ObjParser.parse(in);
+        }
+    }
+
+    @Test
+    void blankLinesDoNotSkipTheNextLine() throws IOException {
+        final var mesh = parse(QUAD);
+        assertEquals(4, mesh.getVertexCount());
+        assertEquals(2, mesh.getTriangleCount());
+    }
+
+    @Test
+    void crlfLineEndings() throws IOException {
+        final var mesh = parse(QUAD.replace("\n", "\r\n"));
+        assertEquals(4, mesh.getVertexCount());
+        assertEquals(2, mesh.getTriangleCount());
+    }
+
+    @Test
+    void errorsReportTheLineCountingBlankLines() {
+        final var text = QUAD.replace("\n", "\r\n") + "\r\n\r\nf 1 2 9\r\n";
+        final var error = assertThrows(IOException.class, () -> parse(text));
+        assertTrue(error.getMessage().endsWith("line 16"), error.getMessage());
+    }
+}
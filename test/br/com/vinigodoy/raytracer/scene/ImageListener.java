@@ -0,0 +1,101 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.scene;
+
+import br.com.vinigodoy.raytracer.gui.WorldMaker;
+import br.com.vinigodoy.raytracer.math.Vector3;
+import br.com.vinigodoy.raytracer.utility.Rnd;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects the traced pixels into an image, and counts the tiles and passes that were traced.
+ */
+class ImageListener implements WorldListener {
+    static final int WIDTH = 64;
+    static final int HEIGHT = 48;
+    static final int SAMPLES = 4;
+    static final long SEED = 7;
+
+    private final float[] image = new float[WIDTH * HEIGHT * 3];
+    final AtomicInteger tiles = new AtomicInteger();
+    final AtomicInteger passes = new AtomicInteger();
+
+    /**
+     * Creates the view plane the way the batch renderer does: right after seeding, and before the scene is created
+     * by {@link #render(WorldMaker, ViewPlane)}. So the sampler and the scene get the same random numbers every time.
+     *
+     * @param threads Number of rendering threads.
+     * @return The view plane.
+     */
+    static ViewPlane viewPlane(int threads) {
+        Rnd.setSeed(SEED);
+        final var vp = new ViewPlane(WIDTH, HEIGHT, SAMPLES);
+        vp.setNumThreads(threads);
+        vp.setSeed(SEED);
+        vp.setTileSize(16);
+        return vp;
+    }
+
+    /**
+     * Creates and renders the scene, waiting for the render to end.
+     *
+     * @return The render handle.
+     */
+    RenderHandle render(WorldMaker scene, ViewPlane vp) throws InterruptedException {
+        final var world = scene.createScene(SAMPLES, WIDTH / 800.0f, this);
+        final var handle = world.render(vp);
+        handle.await();
+        return handle;
+    }
+
+    float[] getImage() {
+        return image;
+    }
+
+    /**
+     * @return True if the whole image is black.
+     */
+    boolean isBlank() {
+        for (var value : image)
+            if (value != 0) return false;
+        return true;
+    }
+
+    @Override
+    public void traceStarted(World world, int width, int height) {
+    }
+
+    @Override
+    public void pixelTraced(World world, int x, int y, Vector3 color) {
+        final var k = (x + y * WIDTH) * 3;
+        image[k] = color.getX();
+        image[k + 1] = color.getY();
+        image[k + 2] = color.getZ();
+    }
+
+    @Override
+    public void tileTraced(World world, int x, int y, int width, int height, float[] rgb) {
+        for (var j = 0; j < height; j++)
+            System.arraycopy(rgb, j * width * 3, image, (x + (y + j) * WIDTH) * 3, width * 3);
+        tiles.incrementAndGet();
+    }
+
+    @Override
+    public void passTraced(World world, int samples) {
+        passes.incrementAndGet();
+    }
+
+    @Override
+    public void traceFinished(World world, long renderTime) {
+    }
+}
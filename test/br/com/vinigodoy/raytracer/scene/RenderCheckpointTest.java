@@ -0,0 +1,92 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.scene;
+
+import br.com.vinigodoy.raytracer.gui.WorldMaker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A render stopped and resumed from its checkpoint must give the same image as an uninterrupted one.
+ */
+class RenderCheckpointTest {
+    private static final WorldMaker SCENE = WorldMaker.BILLIARD;
+
+    @TempDir
+    Path dir;
+
+    private static ViewPlane viewPlane(boolean progressive) {
+        final var vp = ImageListener.viewPlane(2);
+        if (progressive) vp.setProgressiveRendering(new ProgressiveRendering(ImageListener.SAMPLES, 0));
+        return vp;
+    }
+
+    private static float[] uninterrupted(boolean progressive) throws InterruptedException {
+        final var listener = new ImageListener();
+        listener.render(SCENE, viewPlane(progressive));
+        return listener.getImage();
+    }
+
+    /**
+     * Renders until the listener cancels the render, and then resumes it from the checkpoint.
+     *
+     * @return The image of the resumed render.
+     */
+    private float[] resumed(boolean progressive, ImageListener stopping) throws Exception {
+        final var path = dir.resolve("render.chk");
+
+        var vp = viewPlane(progressive);
+        vp.setCheckpoint(new RenderCheckpoint(path, SCENE.name(), 0));
+        assertTrue(stopping.render(SCENE, vp).isCancelled());
+        assertTrue(Files.exists(path), "The stopped render must save its checkpoint");
+
+        vp = viewPlane(progressive);
+        final var checkpoint = new RenderCheckpoint(path, SCENE.name(), 0);
+        vp.setCheckpoint(checkpoint);
+        final var listener = new ImageListener();
+        assertFalse(listener.render(SCENE, vp).isCancelled());
+        assertTrue(checkpoint.isResumed());
+        assertFalse(Files.exists(path), "The finished render must delete its checkpoint");
+        return listener.getImage();
+    }
+
+    @Test
+    void resumedRenderMatchesUninterruptedRender() throws Exception {
+        final var stopping = new ImageListener() {
+            @Override
+            public void tileTraced(World world, int x, int y, int width, int height, float[] rgb) {
+                super.tileTraced(world, x, y, width, height, rgb);
+                if (tiles.get() == 4) world.getCurrentRender().cancel();
+            }
+        };
+        assertArrayEquals(uninterrupted(false), resumed(false, stopping));
+    }
+
+    @Test
+    void resumedProgressiveRenderMatchesUninterruptedRender() throws Exception {
+        final var stopping = new ImageListener() {
+            @Override
+            public void passTraced(World world, int samples) {
+                super.passTraced(world, samples);
+                if (samples == 2) world.getCurrentRender().cancel();
+            }
+        };
+        assertArrayEquals(uninterrupted(true), resumed(true, stopping));
+    }
+}
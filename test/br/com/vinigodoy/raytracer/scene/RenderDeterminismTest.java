@@ -0,0 +1,49 @@
+/*===========================================================================
+COPYRIGHT 2026 Vinícius G. Mendonça ALL RIGHTS RESERVED.
+
+This software cannot be copied, stored, distributed without
+Vinícius G. Mendonça prior authorization.
+
+This file was made available on https://github.com/ViniGodoy and it
+is free to be redistributed or used under Creative Commons license 2.5 br:
+http://creativecommons.org/licenses/by-sa/2.5/br/
+============================================================================*/
+
+package br.com.vinigodoy.raytracer.scene;
+
+import br.com.vinigodoy.raytracer.gui.WorldMaker;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The samples of each pixel depend only on the scene, the seed and the pixel, so the number of threads must not
+ * change the image.
+ */
+class RenderDeterminismTest {
+    private static float[] render(WorldMaker scene, int threads, boolean progressive) throws InterruptedException {
+        final var vp = ImageListener.viewPlane(threads);
+        if (progressive) vp.setProgressiveRendering(new ProgressiveRendering(ImageListener.SAMPLES, 0));
+        final var listener = new ImageListener();
+        listener.render(scene, vp);
+        assertFalse(listener.isBlank(), scene.name() + " was not traced");
+        return listener.getImage();
+    }
+
+    @Test
+    void threadsDoNotChangeTheImage() throws InterruptedException {
+        for (var scene : WorldMaker.values()) {
+            final var single = render(scene, 1, false);
+            assertArrayEquals(single, render(scene, 4, false), scene.name());
+        }
+    }
+
+    @Test
+    void threadsDoNotChangeTheProgressiveImage() throws InterruptedException {
+        for (var scene : WorldMaker.values()) {
+            final var single = render(scene, 1, true);
+            assertArrayEquals(single, render(scene, 4, true), scene.name());
+        }
+    }
+}